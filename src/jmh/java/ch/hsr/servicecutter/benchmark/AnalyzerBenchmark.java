@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.benchmark;
+
+import ch.hsr.servicecutter.analyzer.ServiceCutAnalyzer;
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.Scorer;
+import ch.hsr.servicecutter.solver.MarkovSolver;
+import ch.hsr.servicecutter.solver.SolverAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.function.Function;
+
+/**
+ * Analyses a decomposition (use case responsibilities and service relations).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AnalyzerBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    public int nanoentities;
+
+    private ScoreMatrix scores;
+    private SolverResult result;
+    private ServiceCutAnalyzer analyzer;
+    private Function<String, Double> priorityProvider;
+
+    @Setup
+    public void solveModel() {
+        ServiceCutterContext context = BenchmarkModel.createContext(nanoentities, SolverAlgorithm.MARKOV_CLUSTERING);
+        scores = new Scorer(context).getScoreMatrix();
+        result = new MarkovSolver(context, scores, context.getSolverConfiguration()).solve();
+        analyzer = new ServiceCutAnalyzer(context);
+        priorityProvider = criterion -> context.getSolverConfiguration().getPriorityForCouplingCriterion(criterion).toValue();
+    }
+
+    @Benchmark
+    public SolverResult analyse() {
+        analyzer.analyseResult(result, scores, priorityProvider);
+        return result;
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.benchmark;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.generator.SyntheticModelGenerator;
+import ch.hsr.servicecutter.solver.SolverAlgorithm;
+
+/**
+ * Creates the (seeded) models the benchmarks run on, using the {@link SyntheticModelGenerator} with entities of ten
+ * nanoentities each.
+ */
+public final class BenchmarkModel {
+
+    private static final int NANOENTITIES_PER_ENTITY = 10;
+    private static final long SEED = 42L;
+
+    private BenchmarkModel() {
+    }
+
+    public static ServiceCutterContext createContext(final int nanoentityCount, final SolverAlgorithm algorithm) {
+        int entityCount = Math.max(1, nanoentityCount / NANOENTITIES_PER_ENTITY);
+        ServiceCutterContext context = new SyntheticModelGenerator().withSeed(SEED).withEntities(entityCount, NANOENTITIES_PER_ENTITY).generate()
+                .createContext();
+        context.getSolverConfiguration().setAlgorithm(algorithm);
+        return context;
+    }
+
+}
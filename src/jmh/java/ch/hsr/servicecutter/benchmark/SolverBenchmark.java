@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.benchmark;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.Scorer;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+import ch.hsr.servicecutter.solver.AbstractSolver;
+import ch.hsr.servicecutter.solver.Solver;
+import ch.hsr.servicecutter.solver.SolverAlgorithm;
+import ch.hsr.servicecutter.solver.SolverRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds the graph of every solver from the weighted scores (the solvers build it when they are created) and solves
+ * it, separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SolverBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    public int nanoentities;
+
+    @Param({ "LEUNG", "CHINESE_WHISPERS", "MARKOV_CLUSTERING", "LEIDEN" })
+    public SolverAlgorithm algorithm;
+
+    private ServiceCutterContext context;
+    private WeightedGraph weightedGraph;
+
+    @Setup
+    public void createModel() {
+        context = BenchmarkModel.createContext(nanoentities, algorithm);
+        weightedGraph = AbstractSolver.weightScores(new Scorer(context).getScoreMatrix(), context.getSolverConfiguration());
+    }
+
+    @Benchmark
+    public Solver buildGraph() {
+        return SolverRegistry.getDefault().getProvider(algorithm.name()).createSolver(context, weightedGraph, context.getSolverConfiguration());
+    }
+
+    @Benchmark
+    public SolverResult solve(SolverState state) {
+        return state.solver.solve();
+    }
+
+    /**
+     * Holds the solver to be solved, so that building its graph is not measured. The solvers do not change their
+     * graph when solving, hence a solver is created once per iteration.
+     */
+    @State(Scope.Benchmark)
+    public static class SolverState {
+
+        private Solver solver;
+
+        @Setup(Level.Iteration)
+        public void createSolver(SolverBenchmark benchmark) {
+            solver = benchmark.buildGraph();
+        }
+
+    }
+
+}
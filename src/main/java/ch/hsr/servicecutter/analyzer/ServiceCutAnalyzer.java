@@ -6,16 +6,18 @@ import ch.hsr.servicecutter.api.model.ServiceRelation;
 import ch.hsr.servicecutter.api.model.ServiceRelation.Direction;
 import ch.hsr.servicecutter.api.model.SolverResult;
 import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
-import ch.hsr.servicecutter.model.solver.EntityPair;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
 import ch.hsr.servicecutter.model.usersystem.InstanceType;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
-import ch.hsr.servicecutter.scorer.Score;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.ScoreLayer;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class ServiceCutAnalyzer {
@@ -28,19 +30,19 @@ public class ServiceCutAnalyzer {
         this.context = context;
     }
 
-    private Nanoentity findNanoentity(final String nanoentityName) {
-        Nanoentity nanoentity;
-        if (nanoentityName.contains(".")) {
-            String[] splittedName = nanoentityName.split("\\.");
-            nanoentity = context.getNanoEntities().stream().filter(ne -> splittedName[0].equals(ne.getContext()) && splittedName[1].equals(ne.getName())).findFirst().get();
-        } else {
-            nanoentity = context.getNanoEntities().stream().filter(ne -> nanoentityName.equals(ne.getName())).findFirst().get();
+    private Map<String, Integer> getNanoentityIdsByName(final NanoentityRegistry registry) {
+        // index by qualified and simple name, so that each name is resolved in
+        // constant time (first nanoentity wins, as with the former linear search)
+        Map<String, Integer> idsByName = new HashMap<>();
+        for (int id = 0; id < registry.size(); id++) {
+            Nanoentity nanoentity = registry.getNanoentity(id);
+            idsByName.putIfAbsent(nanoentity.getContext() + "." + nanoentity.getName(), id);
+            idsByName.putIfAbsent(nanoentity.getName(), id);
         }
-        return nanoentity;
-
+        return idsByName;
     }
 
-    public void analyseResult(final SolverResult solverResult, final Map<EntityPair, Map<String, Score>> scores) {
+    public void analyseResult(final SolverResult solverResult, final ScoreMatrix scores, final Function<String, Double> priorityProvider) {
         // use case responsibility
         final Map<Service, List<CouplingInstance>> useCaseResponsibilites = getUseCaseResponsibilites(solverResult.getServices());
         solverResult.setUseCaseResponsibility(transformResponsibilityMap(useCaseResponsibilites));
@@ -51,12 +53,15 @@ public class ServiceCutAnalyzer {
         // relation scores and shared Nanoentities
         List<Service> serviceList = new ArrayList<>(solverResult.getServices());
         List<ServiceRelation> relations = new ArrayList<>();
+        Map<String, Integer> idsByName = getNanoentityIdsByName(scores.getNanoentityRegistry());
+        ScoreLayer semanticProximityScores = scores.getLayer(CouplingCriterion.SEMANTIC_PROXIMITY);
+        double semanticProximityPriority = priorityProvider.apply(CouplingCriterion.SEMANTIC_PROXIMITY);
 
         for (int a = 0; a < serviceList.size() - 1; a++) {
             for (int b = a + 1; b < serviceList.size(); b++) {
                 Service serviceA = serviceList.get(a);
                 Service serviceB = serviceList.get(b);
-                Double score = getProximityScoreFor(serviceA, serviceB, scores);
+                Double score = semanticProximityScores != null ? getProximityScoreFor(serviceA, serviceB, semanticProximityScores, idsByName) * semanticProximityPriority : 0d;
                 ServiceRelation relation = createServiceRelation(serviceA, serviceB, useCaseResponsibilites);
                 if (score > 0 && !relation.getSharedEntities().isEmpty()) {
                     log.info("create service relation for services {} and {} with score {} and nanoentities {}", serviceA.getName(), serviceB.getName(), score,
@@ -109,7 +114,8 @@ public class ServiceCutAnalyzer {
 
     private Map<Service, List<CouplingInstance>> getUseCaseResponsibilites(final Set<Service> set) {
         Map<Service, List<CouplingInstance>> useCaseResponsibilites = new HashMap<>();
-        context.getCouplingInstances().stream().filter((instance) -> {
+        // use cases are instances of the semantic proximity criterion
+        context.getCouplingInstancesByCriterion(CouplingCriterion.SEMANTIC_PROXIMITY).stream().filter((instance) -> {
             return InstanceType.USE_CASE.equals(instance.getType()) || InstanceType.LATENCY_USE_CASE.equals(instance.getType());
         }).forEach((instance) -> {
             Service responsibleService = getResponsibleService(set, instance);
@@ -140,19 +146,13 @@ public class ServiceCutAnalyzer {
         return responsibleService;
     }
 
-    private Double getProximityScoreFor(final Service serviceA, final Service serviceB, final Map<EntityPair, Map<String, Score>> scores) {
-        Double score = 0d;
+    private double getProximityScoreFor(final Service serviceA, final Service serviceB, final ScoreLayer semanticProximityScores, final Map<String, Integer> idsByName) {
+        int[] nanoentitiesB = serviceB.getNanoentities().stream().mapToInt(idsByName::get).toArray();
+        double score = 0d;
         for (String nanoentityA : serviceA.getNanoentities()) {
-            for (String nanoentityB : serviceB.getNanoentities()) {
-                EntityPair nanoentityTuple = new EntityPair(findNanoentity(nanoentityA), findNanoentity(nanoentityB));
-                final Map<String, Score> scoresByTuple = scores.get(nanoentityTuple);
-                if (scoresByTuple == null) {
-                    continue;
-                }
-                Score semanticProximityScore = scoresByTuple.get(CouplingCriterion.SEMANTIC_PROXIMITY);
-                if (semanticProximityScore != null) {
-                    score += semanticProximityScore.getPrioritizedScore();
-                }
+            int idA = idsByName.get(nanoentityA);
+            for (int idB : nanoentitiesB) {
+                score += semanticProximityScores.get(idA, idB);
             }
         }
         return score;
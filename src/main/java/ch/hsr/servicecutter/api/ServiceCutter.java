@@ -17,16 +17,16 @@ package ch.hsr.servicecutter.api;
 
 import ch.hsr.servicecutter.analyzer.ServiceCutAnalyzer;
 import ch.hsr.servicecutter.api.model.SolverResult;
-import ch.hsr.servicecutter.model.solver.EntityPair;
-import ch.hsr.servicecutter.scorer.Score;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
 import ch.hsr.servicecutter.scorer.Scorer;
+import ch.hsr.servicecutter.scorer.ScoringSession;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
 import ch.hsr.servicecutter.solver.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-
-import static ch.hsr.servicecutter.solver.SolverAlgorithm.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
  * Main class to run generate service decompositions. Runs the internal solver and returns the cutting result.
@@ -39,7 +39,11 @@ public class ServiceCutter {
 
     private ServiceCutterContext context;
     private Scorer scorer;
+    private ScoringSession scoringSession;
     private ServiceCutAnalyzer analyzer;
+    private ScoreMatrix scoreMatrix;
+    private long scoreMatrixRevision;
+    private SolverRegistry solverRegistry = SolverRegistry.getDefault();
 
     /**
      * Needs a {@link ServiceCutterContext} to generate service decompositions. Use {@link ServiceCutterContextBuilder}
@@ -47,35 +51,82 @@ public class ServiceCutter {
      */
     public ServiceCutter(ServiceCutterContext context) {
         this.context = context;
-        this.scorer = new Scorer(context.getCouplingInstances(), context.getNanoEntities());
+        this.scorer = new Scorer(context);
         this.analyzer = new ServiceCutAnalyzer(context);
     }
 
+    /**
+     * Generates the decompositions with the scores of the given session, which keeps them up to date while the context
+     * is edited through the session (instead of scoring the whole context for every decomposition).
+     */
+    public ServiceCutter(ScoringSession scoringSession) {
+        this(scoringSession.getContext());
+        this.scoringSession = scoringSession;
+    }
+
+    /**
+     * Scores the coupling criteria in parallel on the given pool. By default they are scored one after another.
+     */
+    public void setScoringPool(ForkJoinPool scoringPool) {
+        this.scorer.setForkJoinPool(scoringPool);
+    }
+
+    /**
+     * Selects the solvers from the given registry instead of the default one (see {@link SolverRegistry#getDefault()}).
+     */
+    public void setSolverRegistry(SolverRegistry solverRegistry) {
+        this.solverRegistry = solverRegistry;
+    }
+
+    /**
+     * The raw scores do not depend on the priorities, so they are calculated once and reused by all decompositions
+     * until the context changes (see {@link ServiceCutterContext#getRevision()}). Only the priorities of the solver
+     * configuration are applied per decomposition.
+     *
+     * @return the (not prioritized) scores of the context
+     */
+    public ScoreMatrix getScoreMatrix() {
+        if (scoringSession != null) {
+            return scoringSession.getScoreMatrix();
+        }
+        if (scoreMatrix == null || scoreMatrixRevision != context.getRevision()) {
+            scoreMatrixRevision = context.getRevision();
+            scoreMatrix = scorer.getScoreMatrix();
+        }
+        return scoreMatrix;
+    }
+
+    /**
+     * Discards the cached scores, e.g. after the nanoentities of a coupling instance have been changed.
+     */
+    public void resetScores() {
+        scoreMatrix = null;
+    }
+
     public SolverResult generateDecomposition() {
-        if (context.getSolverConfiguration().getPriorities().isEmpty()) {
+        SolverConfiguration configuration = context.getSolverConfiguration();
+        if (configuration.getPriorities().isEmpty()) {
             return new SolverResult();
         }
-        Solver solver = null;
-        SolverAlgorithm algorithm = context.getSolverConfiguration().getAlgorithm();
+        return generateDecomposition(configuration, AbstractSolver.weightScores(getScoreMatrix(), configuration));
+    }
 
-        Map<EntityPair, Map<String, Score>> scores = scorer.getScores((final String key) -> {
-            return context.getSolverConfiguration().getPriorityForCouplingCriterion(key).toValue();
-        });
-        if (LEUNG.equals(algorithm)) {
-            solver = new GraphStreamSolver(context, scores, context.getSolverConfiguration());
-        } else if (CHINESE_WHISPERS.equals(algorithm)) {
-            solver = new ChineseWhispersSolver(context, scores, context.getSolverConfiguration());
-        } else if (MARKOV_CLUSTERING.equals(algorithm)) {
-            solver = new MarkovSolver(context, scores, context.getSolverConfiguration());
-        } else {
-            throw new RuntimeException("Algorithm " + algorithm.toString() + " not found!");
-        }
+    /**
+     * Solves the given graph with the algorithm of the configuration. Does not modify the context, the scores or the
+     * graph, which allows to generate several decompositions concurrently.
+     */
+    SolverResult generateDecomposition(SolverConfiguration configuration, WeightedGraph graph) {
+        Function<String, Double> priorityProvider = (final String key) -> {
+            return configuration.getPriorityForCouplingCriterion(key).toValue();
+        };
+        SolverProvider provider = solverRegistry.selectProvider(configuration.getAlgorithm(), context.getNanoEntities().size(), graph.getEdgeCount());
+        Solver solver = provider.createSolver(context, graph, configuration);
         log.info("created graph");
         SolverResult result = solver.solve();
         log.info("found clusters");
         log.info("userSystem {} solved, found {} bounded contexts: {}", context.getSystemName(), result.getServices().size(), result.toString());
         if (result.getServices().size() > 0) {
-            analyzer.analyseResult(result, scores);
+            analyzer.analyseResult(result, graph.getScores(), priorityProvider);
         }
         return result;
     }
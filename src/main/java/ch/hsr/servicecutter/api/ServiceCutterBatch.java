@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.api;
+
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+import ch.hsr.servicecutter.solver.SolverConfiguration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates the decompositions of several solver configurations (algorithms, algorithm parameters and priorities) for
+ * the same context. The context is scored once, the weighted graph is built once per distinct set of priorities and
+ * the solvers run concurrently.
+ */
+public class ServiceCutterBatch {
+
+    private final ServiceCutter serviceCutter;
+    private ExecutorService executor;
+
+    public ServiceCutterBatch(ServiceCutterContext context) {
+        this(new ServiceCutter(context));
+    }
+
+    /**
+     * Reuses the (cached) scores of the given service cutter.
+     */
+    public ServiceCutterBatch(ServiceCutter serviceCutter) {
+        this.serviceCutter = serviceCutter;
+    }
+
+    /**
+     * Runs the solvers on the given executor. By default, a pool with at most one thread per available processor is
+     * created for every batch.
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * The context must not be changed while the decompositions are generated.
+     *
+     * @return one result per configuration, in the order of the configurations
+     */
+    public List<SolverResult> generateDecompositions(List<SolverConfiguration> configurations) {
+        ScoreMatrix scores = serviceCutter.getScoreMatrix();
+        Map<Map<String, Double>, WeightedGraph> graphsByPriorities = new HashMap<>();
+        List<Callable<SolverResult>> tasks = new ArrayList<>();
+        for (SolverConfiguration configuration : configurations) {
+            if (configuration.getPriorities().isEmpty()) {
+                tasks.add(SolverResult::new);
+                continue;
+            }
+            Map<String, Double> priorities = new HashMap<>();
+            for (String criterion : scores.getCriteria()) {
+                priorities.put(criterion, configuration.getPriorityForCouplingCriterion(criterion).toValue());
+            }
+            WeightedGraph graph = graphsByPriorities.computeIfAbsent(priorities, key -> WeightedGraph.of(scores, key::get));
+            tasks.add(() -> serviceCutter.generateDecomposition(configuration, graph));
+        }
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ExecutorService executorService = executor != null ? executor : Executors.newFixedThreadPool(Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<SolverResult> results = new ArrayList<>();
+            for (Future<SolverResult> future : executorService.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating decompositions", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Could not generate decomposition", e.getCause());
+        } finally {
+            if (executor == null) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+}
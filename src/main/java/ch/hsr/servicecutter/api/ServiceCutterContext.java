@@ -19,11 +19,14 @@ import ch.hsr.servicecutter.model.criteria.CouplingCriteriaCatalog;
 import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
 import ch.hsr.servicecutter.model.criteria.CouplingType;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.InstanceType;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
 import ch.hsr.servicecutter.solver.SolverConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Context needed to call ServiceCutter solver.
@@ -32,17 +35,40 @@ import java.util.stream.Collectors;
  */
 public class ServiceCutterContext {
 
+    private final Logger log = LoggerFactory.getLogger(ServiceCutterContext.class);
+
     private String systemName;
     private SolverConfiguration solverConfiguration;
     private CouplingCriteriaCatalog criteriaCatalog;
     private List<CouplingInstance> couplingInstances;
+    private Map<String, List<CouplingInstance>> couplingInstancesByCriterion;
+    private Map<InstanceType, List<CouplingInstance>> couplingInstancesByType;
+    private Map<CouplingType, List<CouplingInstance>> couplingInstancesByCouplingType;
+    private Map<CouplingCriterionCharacteristic, List<CouplingInstance>> couplingInstancesByCharacteristic;
     private Set<Nanoentity> nanoEntities;
+    private NanoentityRegistry nanoentityRegistry;
+    private Map<String, Map<String, Nanoentity>> nanoEntitiesByContextAndName;
+    private Map<String, Nanoentity> nanoEntitiesByName;
+    private Set<String> ambiguousNames;
+    private long revision;
 
     public ServiceCutterContext(String systemName) {
+        this(systemName, CouplingCriteriaCatalog.getDefault());
+    }
+
+    public ServiceCutterContext(String systemName, CouplingCriteriaCatalog criteriaCatalog) {
         this.systemName = systemName;
-        this.criteriaCatalog = new CouplingCriteriaCatalog();
+        this.criteriaCatalog = criteriaCatalog;
         this.couplingInstances = new ArrayList<>();
+        this.couplingInstancesByCriterion = new LinkedHashMap<>();
+        this.couplingInstancesByType = new EnumMap<>(InstanceType.class);
+        this.couplingInstancesByCouplingType = new EnumMap<>(CouplingType.class);
+        this.couplingInstancesByCharacteristic = new HashMap<>();
         this.nanoEntities = new HashSet<>();
+        this.nanoentityRegistry = new NanoentityRegistry();
+        this.nanoEntitiesByContextAndName = new HashMap<>();
+        this.nanoEntitiesByName = new HashMap<>();
+        this.ambiguousNames = new HashSet<>();
     }
 
     public String getSystemName() {
@@ -62,47 +88,155 @@ public class ServiceCutterContext {
     }
 
     public void addCouplingInstance(CouplingInstance couplingInstance) {
+        this.revision++;
         this.couplingInstances.add(couplingInstance);
+        this.couplingInstancesByCriterion.computeIfAbsent(couplingInstance.getCouplingCriterion().getName(), name -> new ArrayList<>()).add(couplingInstance);
+        this.couplingInstancesByType.computeIfAbsent(couplingInstance.getType(), type -> new ArrayList<>()).add(couplingInstance);
+        this.couplingInstancesByCouplingType.computeIfAbsent(couplingInstance.getCouplingCriterion().getType(), type -> new ArrayList<>()).add(couplingInstance);
+        if (couplingInstance.getCharacteristic() != null) {
+            this.couplingInstancesByCharacteristic.computeIfAbsent(couplingInstance.getCharacteristic(), characteristic -> new ArrayList<>()).add(couplingInstance);
+        }
     }
 
+    public boolean removeCouplingInstance(CouplingInstance couplingInstance) {
+        if (!this.couplingInstances.remove(couplingInstance)) {
+            return false;
+        }
+        this.revision++;
+        removeFromIndex(this.couplingInstancesByCriterion, couplingInstance.getCouplingCriterion().getName(), couplingInstance);
+        removeFromIndex(this.couplingInstancesByType, couplingInstance.getType(), couplingInstance);
+        removeFromIndex(this.couplingInstancesByCouplingType, couplingInstance.getCouplingCriterion().getType(), couplingInstance);
+        if (couplingInstance.getCharacteristic() != null) {
+            removeFromIndex(this.couplingInstancesByCharacteristic, couplingInstance.getCharacteristic(), couplingInstance);
+        }
+        return true;
+    }
+
+    /**
+     * @return all coupling instances in the order they have been added (unmodifiable; use
+     *         {@link #addCouplingInstance(CouplingInstance)} and {@link #removeCouplingInstance(CouplingInstance)})
+     */
     public List<CouplingInstance> getCouplingInstances() {
-        return couplingInstances;
+        return Collections.unmodifiableList(couplingInstances);
+    }
+
+    /**
+     * @return the coupling instances of the criterion in the order they have been added (unmodifiable)
+     */
+    public List<CouplingInstance> getCouplingInstancesByCriterion(String criterionName) {
+        return unmodifiableIndexEntry(couplingInstancesByCriterion, criterionName);
+    }
+
+    /**
+     * @return the coupling instances per criterion; the criteria are ordered by their first instance added (unmodifiable)
+     */
+    public Map<String, List<CouplingInstance>> getCouplingInstancesGroupedByCriterion() {
+        Map<String, List<CouplingInstance>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, List<CouplingInstance>> criterion : couplingInstancesByCriterion.entrySet()) {
+            result.put(criterion.getKey(), Collections.unmodifiableList(criterion.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * @return the coupling instances of the type in the order they have been added (unmodifiable)
+     */
+    public List<CouplingInstance> getCouplingInstancesByType(InstanceType instanceType) {
+        return unmodifiableIndexEntry(couplingInstancesByType, instanceType);
+    }
+
+    /**
+     * @return the coupling instances of all criteria of the coupling type in the order they have been added
+     *         (unmodifiable)
+     */
+    public List<CouplingInstance> getCouplingInstancesByCouplingType(CouplingType couplingType) {
+        return unmodifiableIndexEntry(couplingInstancesByCouplingType, couplingType);
+    }
+
+    /**
+     * @return the coupling instances of the characteristic in the order they have been added (unmodifiable)
+     */
+    public List<CouplingInstance> getCouplingInstancesByCharacteristic(CouplingCriterionCharacteristic characteristic) {
+        return unmodifiableIndexEntry(couplingInstancesByCharacteristic, characteristic);
     }
 
     public void addNanoEntity(Nanoentity nanoentity) {
-        this.nanoEntities.add(nanoentity);
+        if (this.nanoEntities.add(nanoentity)) {
+            this.revision++;
+            this.nanoentityRegistry.intern(nanoentity);
+            this.nanoEntitiesByContextAndName.computeIfAbsent(nanoentity.getContext(), context -> new HashMap<>()).put(nanoentity.getName(), nanoentity);
+            if (this.nanoEntitiesByName.putIfAbsent(nanoentity.getName(), nanoentity) != null) {
+                this.ambiguousNames.add(nanoentity.getName());
+            }
+        }
     }
 
     public Set<Nanoentity> getNanoEntities() {
         return Collections.unmodifiableSet(nanoEntities);
     }
 
+    /**
+     * @return a number which changes whenever nanoentities or coupling instances are added to or removed from this
+     *         context (changes of the nanoentities of an instance are not tracked)
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Registry assigning a dense id to every nanoentity of this context (in the order they have been added).
+     */
+    public NanoentityRegistry getNanoentityRegistry() {
+        return nanoentityRegistry;
+    }
+
     public Optional<Nanoentity> findNanoEntityByContextAndName(String context, String name) {
-        return this.nanoEntities.stream().filter(ne -> ne.getContext().equals(context) && ne.getName().equals(name)).findFirst();
+        Map<String, Nanoentity> nanoEntitiesOfContext = this.nanoEntitiesByContextAndName.get(context);
+        return nanoEntitiesOfContext != null ? Optional.ofNullable(nanoEntitiesOfContext.get(name)) : Optional.empty();
     }
 
+    /**
+     * Finds a nanoentity by its name only. If several contexts contain a nanoentity with this name, the one added first
+     * is returned (see {@link #isAmbiguousNanoEntityName(String)}).
+     */
     public Optional<Nanoentity> findNanoEntityByName(String name) {
-        return this.nanoEntities.stream().filter(ne -> ne.getName().equals(name)).findFirst();
+        if (this.ambiguousNames.contains(name)) {
+            log.warn("nanoentity name {} is ambiguous, using {}", name, this.nanoEntitiesByName.get(name));
+        }
+        return Optional.ofNullable(this.nanoEntitiesByName.get(name));
     }
 
-    public Set<CouplingInstance> findCouplingInstancesByCharacteristic(CouplingCriterionCharacteristic characteristic) {
-        return this.couplingInstances.stream().filter(ci -> ci.getCharacteristic() != null && ci.getCharacteristic().equals(characteristic)).collect(Collectors.toSet());
+    /**
+     * @return true, if nanoentities of several contexts are named like this
+     */
+    public boolean isAmbiguousNanoEntityName(String name) {
+        return this.ambiguousNames.contains(name);
     }
 
-    public Map<String, Set<CouplingInstance>> findCouplingInstancesGroupedByCriterionFilteredByCriterionType(CouplingType couplingType) {
-        return groupByCriterion(getCouplingInstances().stream().filter(instance -> couplingType.equals(instance.getCouplingCriterion().getType())).collect(Collectors.toSet()));
+    public Set<CouplingInstance> findCouplingInstancesByCharacteristic(CouplingCriterionCharacteristic characteristic) {
+        return new HashSet<>(getCouplingInstancesByCharacteristic(characteristic));
     }
 
-    private Map<String, Set<CouplingInstance>> groupByCriterion(final Set<CouplingInstance> instances) {
+    public Map<String, Set<CouplingInstance>> findCouplingInstancesGroupedByCriterionFilteredByCriterionType(CouplingType couplingType) {
         Map<String, Set<CouplingInstance>> instancesByCriterion = new HashMap<>();
-        for (CouplingInstance instance : instances) {
-            String ccName = instance.getCouplingCriterion().getName();
-            if (instancesByCriterion.get(ccName) == null) {
-                instancesByCriterion.put(ccName, new HashSet<CouplingInstance>());
+        for (Map.Entry<String, List<CouplingInstance>> criterion : couplingInstancesByCriterion.entrySet()) {
+            if (!criterion.getValue().isEmpty() && couplingType.equals(criterion.getValue().get(0).getCouplingCriterion().getType())) {
+                instancesByCriterion.put(criterion.getKey(), new HashSet<>(criterion.getValue()));
             }
-            instancesByCriterion.get(ccName).add(instance);
         }
         return instancesByCriterion;
     }
 
+    private static <K> List<CouplingInstance> unmodifiableIndexEntry(Map<K, List<CouplingInstance>> index, K key) {
+        List<CouplingInstance> instances = index.get(key);
+        return instances != null ? Collections.unmodifiableList(instances) : Collections.emptyList();
+    }
+
+    private static <K> void removeFromIndex(Map<K, List<CouplingInstance>> index, K key, CouplingInstance couplingInstance) {
+        List<CouplingInstance> instances = index.get(key);
+        if (instances != null && instances.remove(couplingInstance) && instances.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
 }
@@ -22,6 +22,7 @@ import ch.hsr.servicecutter.model.criteria.CouplingType;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
 import ch.hsr.servicecutter.model.usersystem.InstanceType;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
 import ch.hsr.servicecutter.solver.SolverConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -118,11 +119,11 @@ public class ServiceCutterContextBuilder {
             if (EntityRelation.RelationType.AGGREGATION.equals(relation.getType())) {
                 CouplingInstance instance = new CouplingInstance(semanticProximity, InstanceType.AGGREGATION);
                 List<Nanoentity> originNanoentities = relation.getOrigin().getNanoentities().stream()
-                        .filter(attr -> context.findNanoEntityByContextAndName(relation.getOrigin().getName(), attr).isPresent())
-                        .map(attr -> context.findNanoEntityByContextAndName(relation.getOrigin().getName(), attr).get()).collect(Collectors.toList());
+                        .map(attr -> context.findNanoEntityByContextAndName(relation.getOrigin().getName(), attr)).filter(Optional::isPresent).map(Optional::get)
+                        .collect(Collectors.toList());
                 List<Nanoentity> destinationNanoentities = relation.getDestination().getNanoentities().stream()
-                        .filter(attr -> context.findNanoEntityByContextAndName(relation.getDestination().getName(), attr).isPresent())
-                        .map(attr -> context.findNanoEntityByContextAndName(relation.getDestination().getName(), attr).get()).collect(Collectors.toList());
+                        .map(attr -> context.findNanoEntityByContextAndName(relation.getDestination().getName(), attr)).filter(Optional::isPresent).map(Optional::get)
+                        .collect(Collectors.toList());
                 instance.setNanoentities(originNanoentities);
                 instance.setSecondNanoentities(destinationNanoentities);
                 instance.setName(relation.getOrigin().getName() + "." + relation.getDestination().getName());
@@ -148,6 +149,7 @@ public class ServiceCutterContextBuilder {
             createCharacteristicCouplingInstances(compatibilities.getStorageSimilarity(), CouplingCriterion.STORAGE_SIMILARITY);
             createCharacteristicCouplingInstances(compatibilities.getContentVolatility(), CouplingCriterion.CONTENT_VOLATILITY);
             createCharacteristicCouplingInstances(compatibilities.getAvailabilityCriticality(), CouplingCriterion.AVAILABILITY);
+            completeSystemWithDefaultsForDistance();
         }
         createRelatedGroupCouplingInstances(userRepresentationContainer.getAggregates(), CouplingCriterion.CONSISTENCY_CONSTRAINT);
         createRelatedGroupCouplingInstances(userRepresentationContainer.getEntities(), CouplingCriterion.IDENTITY_LIFECYCLE);
@@ -181,9 +183,7 @@ public class ServiceCutterContextBuilder {
                 log.error("characteristic {} not known! ignoring...", inputCharacteristic);
                 continue;
             }
-            Set<CouplingInstance> instance = context.findCouplingInstancesByCharacteristic(characteristic);
-
-            if (instance == null || instance.isEmpty()) {
+            if (context.getCouplingInstancesByCharacteristic(characteristic).isEmpty()) {
                 CouplingInstance newInstance = new CouplingInstance(characteristic, InstanceType.CHARACTERISTIC);
                 newInstance.setName(criterionName);
                 newInstance.setNanoentities(findNanoentities(inputCharacteristic.getNanoentities()));
@@ -193,7 +193,6 @@ public class ServiceCutterContextBuilder {
                 log.error("enhancing characteristics not yet implemented. criterion: {}, characteristic: {}", criterionName, inputCharacteristic.getCharacteristic());
             }
         }
-        completeSystemWithDefaultsForDistance();
     }
 
     private void createRelatedGroupCouplingInstances(final List<RelatedGroup> listOfGroups, final String couplingCriterionName) {
@@ -245,63 +244,103 @@ public class ServiceCutterContextBuilder {
         return nanoentity;
     }
 
+    /**
+     * Merges entities along compositions (the destination is merged into the origin) and inheritances (the origin is
+     * merged into the destination). The relations are processed in topological order of this merge graph; the
+     * nanoentities of an entity are moved by the merge relations of their original entity only (if there are several,
+     * the last one wins). Entities on a cycle, or only reachable through one, are not merged.
+     */
     private List<TemporaryNanoentity> expandEntitiesByCompositionAndInheritance(final EntityRelationDiagram erd, List<TemporaryNanoentity> nanoentities) {
-        List<EntityRelation> currentRelations = new ArrayList<>(erd.getRelations());
-
-        // does this work with cycles?
-        List<EntityRelation> relationsToEdgeEntities = getRelationsToEdgeEntities(currentRelations, erd.getEntities());
-        while (!relationsToEdgeEntities.isEmpty()) {
-            for (EntityRelation relation : relationsToEdgeEntities) {
-                String destinationEntity = relation.getDestination().getName();
-                String originEntity = relation.getOrigin().getName();
-                if (EntityRelation.RelationType.COMPOSITION.equals(relation.getType())) {
-                    // move all nanoentities from the destination to the origin
-                    // entity
-                    nanoentities.stream().filter(n -> destinationEntity.equals(n.getOriginalEntity())).forEach(n -> n.setNewEntity(originEntity));
-                } else if (EntityRelation.RelationType.INHERITANCE.equals(relation.getType())) {
-                    // move all nanoentities from the origin to the destination
-                    // entity
-                    nanoentities.stream().filter(n -> originEntity.equals(n.getOriginalEntity())).forEach(n -> n.setNewEntity(destinationEntity));
+        Map<String, List<String>> mergeTargetsByEntity = new HashMap<>();
+        Map<String, Integer> incomingMerges = new HashMap<>();
+        for (EntityRelation relation : erd.getRelations()) {
+            String source;
+            String target;
+            if (EntityRelation.RelationType.COMPOSITION.equals(relation.getType())) {
+                source = relation.getDestination().getName();
+                target = relation.getOrigin().getName();
+            } else if (EntityRelation.RelationType.INHERITANCE.equals(relation.getType())) {
+                source = relation.getOrigin().getName();
+                target = relation.getDestination().getName();
+            } else {
+                continue;
+            }
+            mergeTargetsByEntity.computeIfAbsent(source, entity -> new ArrayList<>()).add(target);
+            incomingMerges.merge(target, 1, Integer::sum);
+        }
+
+        // Kahn's algorithm: an entity is merged as soon as nothing is merged
+        // into it anymore
+        Set<String> entities = erd.getEntities().stream().map(Entity::getName).collect(Collectors.toSet());
+        Deque<String> mergeableEntities = entities.stream().filter(entity -> !incomingMerges.containsKey(entity)).collect(Collectors.toCollection(ArrayDeque::new));
+        Map<String, String> newEntityByEntity = new HashMap<>();
+        Set<String> mergedEntities = new HashSet<>();
+        while (!mergeableEntities.isEmpty()) {
+            String entity = mergeableEntities.poll();
+            mergedEntities.add(entity);
+            for (String target : mergeTargetsByEntity.getOrDefault(entity, Collections.emptyList())) {
+                newEntityByEntity.put(entity, target);
+                if (incomingMerges.merge(target, -1, Integer::sum) == 0 && entities.contains(target)) {
+                    mergeableEntities.add(target);
                 }
+            }
+        }
+        if (mergedEntities.size() < entities.size()) {
+            Set<String> cyclicEntities = new TreeSet<>(entities);
+            cyclicEntities.removeAll(mergedEntities);
+            log.warn("compositions and inheritances of the entities {} contain a cycle; these entities are not merged", cyclicEntities);
+        }
 
-                currentRelations.remove(relation);
-                relationsToEdgeEntities = getRelationsToEdgeEntities(currentRelations, erd.getEntities());
+        for (TemporaryNanoentity nanoentity : nanoentities) {
+            String newEntity = newEntityByEntity.get(nanoentity.getOriginalEntity());
+            if (newEntity != null) {
+                nanoentity.setNewEntity(newEntity);
             }
         }
         return nanoentities;
     }
 
-    private List<EntityRelation> getRelationsToEdgeEntities(final List<EntityRelation> currentRelations, final List<Entity> inputEntites) {
-        // get all entites that will have no other entities merged into them
-        List<Entity> reducableEntities = inputEntites.stream()
-                .filter(entity -> currentRelations.stream().filter(
-                        r2 -> (r2.getDestination().equals(entity) && r2.getType().equals(EntityRelation.RelationType.INHERITANCE)) || (r2.getOrigin().equals(entity) && r2.getType().equals(EntityRelation.RelationType.COMPOSITION)))
-                        .collect(Collectors.toList()).isEmpty()).collect(Collectors.toList());
-
-        // get all relations that will merge the reducableEntities into
-        // another entity
-        List<EntityRelation> relationsToEdgeEntities = currentRelations.stream().filter(r -> (reducableEntities.contains(r.getOrigin()) && r.getType().equals(EntityRelation.RelationType.INHERITANCE))
-                || (reducableEntities.contains(r.getDestination()) && r.getType().equals(EntityRelation.RelationType.COMPOSITION))).collect(Collectors.toList());
-        return relationsToEdgeEntities;
-    }
-
+    /**
+     * Assigns the default characteristic to all nanoentities without characteristic, for every compatibility criterion
+     * with characteristics. Runs once, after all characteristics have been imported.
+     */
     public void completeSystemWithDefaultsForDistance() {
+        Map<String, List<CouplingInstance>> instancesByCriterion = new LinkedHashMap<>();
+        for (Map.Entry<String, List<CouplingInstance>> criterion : context.getCouplingInstancesGroupedByCriterion().entrySet()) {
+            if (CouplingType.COMPATIBILITY.equals(criterion.getValue().get(0).getCouplingCriterion().getType())) {
+                instancesByCriterion.put(criterion.getKey(), new ArrayList<>(criterion.getValue()));
+            }
+        }
+        NanoentityRegistry registry = context.getNanoentityRegistry();
         Set<Nanoentity> allNanoentitiesInModel = context.getNanoEntities();
-        Map<String, Set<CouplingInstance>> instancesByCriterion = context.findCouplingInstancesGroupedByCriterionFilteredByCriterionType(CouplingType.COMPATIBILITY);
 
         // For every criterion
-        for (Map.Entry<String, Set<CouplingInstance>> criterion : instancesByCriterion.entrySet()) {
-            Set<Nanoentity> definedNanoentities = criterion.getValue().stream().flatMap(instance -> instance.getAllNanoentities().stream()).collect(Collectors.toSet());
+        for (Map.Entry<String, List<CouplingInstance>> criterion : instancesByCriterion.entrySet()) {
+            BitSet definedNanoentities = new BitSet(registry.size());
+            for (CouplingInstance instance : criterion.getValue()) {
+                for (Nanoentity nanoentity : instance.getAllNanoentities()) {
+                    int id = registry.getId(nanoentity);
+                    if (id >= 0) {
+                        definedNanoentities.set(id);
+                    }
+                }
+            }
             // find missing nanoentities which need to have an instance
-            Set<Nanoentity> missingNanoentities = allNanoentitiesInModel.stream().filter(nanoentity -> !definedNanoentities.contains(nanoentity)).collect(Collectors.toSet());
+            List<Nanoentity> missingNanoentities = new ArrayList<>();
+            for (int id = definedNanoentities.nextClearBit(0); id < registry.size(); id = definedNanoentities.nextClearBit(id + 1)) {
+                Nanoentity nanoentity = registry.getNanoentity(id);
+                if (allNanoentitiesInModel.contains(nanoentity)) {
+                    missingNanoentities.add(nanoentity);
+                }
+            }
 
             if (!missingNanoentities.isEmpty()) {
                 CouplingCriterionCharacteristic defaultCharacteristic = context.getCriteriaCatalog()
                         .getCouplingCriterionCharacteristicByCouplingCriterionAndIsDefault(context.getCriteriaCatalog().getCriterionByName(criterion.getKey()));
-                Set<CouplingInstance> instances = context.findCouplingInstancesByCharacteristic(defaultCharacteristic);
+                List<CouplingInstance> instances = context.getCouplingInstancesByCharacteristic(defaultCharacteristic);
                 CouplingInstance instance;
                 if (instances.size() == 1) {
-                    instance = instances.iterator().next();
+                    instance = instances.get(0);
                 } else if (instances.size() == 0) {
                     instance = new CouplingInstance(defaultCharacteristic, InstanceType.CHARACTERISTIC);
                     instance.setName(defaultCharacteristic.getName());
@@ -42,7 +42,9 @@ public class SolverConfigurationFactory {
         configuration.setAlgorithmParam("leungDelta", 0.55);
         configuration.setAlgorithmParam("mclExpansionOperations", 2.0);
         configuration.setAlgorithmParam("mclPowerCoefficient", 2.0);
+        configuration.setAlgorithmParam("mclPruneThreshold", 1e-5);
         configuration.setAlgorithmParam("cwNodeWeighting", 0.0);
+        configuration.setAlgorithmParam("leidenResolution", 1.0);
 
         configuration.setPriority(IDENTITY_LIFECYCLE, M);
         configuration.setPriority(SEMANTIC_PROXIMITY, M);
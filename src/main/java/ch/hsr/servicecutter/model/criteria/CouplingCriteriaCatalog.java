@@ -16,28 +16,45 @@
 package ch.hsr.servicecutter.model.criteria;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 import static ch.hsr.servicecutter.model.criteria.CouplingCriterion.*;
 import static ch.hsr.servicecutter.model.criteria.CouplingType.*;
 
 /**
- * Class initializes and provides access to all CouplingCriterion instances.
+ * Class initializes and provides access to all CouplingCriterion instances. The catalog is immutable, so a single
+ * instance (see {@link #getDefault()}) can be shared.
  *
  * @author Stefan Kapferer
  */
 public class CouplingCriteriaCatalog {
 
+    private static final CouplingCriteriaCatalog DEFAULT_CATALOG = new CouplingCriteriaCatalog();
+
     private Map<String, CouplingCriterion> couplingCriteriaCatalog;
     private List<CouplingCriterionCharacteristic> couplingCriteriaCharacteristics;
 
+    // indexes by criterion name
+    private Map<String, List<CouplingCriterionCharacteristic>> characteristicsByCriterion;
+    private Map<String, Map<String, CouplingCriterionCharacteristic>> characteristicsByCriterionAndName;
+    private Map<String, CouplingCriterionCharacteristic> defaultCharacteristicsByCriterion;
+
     public CouplingCriteriaCatalog() {
         this.couplingCriteriaCatalog = new HashMap<>();
         this.couplingCriteriaCharacteristics = new ArrayList<>();
         initializeCatalog();
+        initializeIndexes();
+    }
+
+    /**
+     * @return the catalog shared by all contexts
+     */
+    public static CouplingCriteriaCatalog getDefault() {
+        return DEFAULT_CATALOG;
     }
 
     public CouplingCriterion getCriterionByName(String name) {
@@ -45,15 +62,31 @@ public class CouplingCriteriaCatalog {
     }
 
     public List<CouplingCriterionCharacteristic> getCouplingCriteriaCharacteristics4CriterionName(String criterionName) {
-        return new ArrayList<>(this.couplingCriteriaCharacteristics.stream().filter(cc -> cc.getCouplingCriterion().getName().equals(criterionName)).collect(Collectors.toList()));
+        return new ArrayList<>(this.characteristicsByCriterion.getOrDefault(criterionName, Collections.emptyList()));
     }
 
+    /**
+     * @throws NoSuchElementException
+     *             if the criterion has no characteristic with this name
+     */
     public CouplingCriterionCharacteristic getCouplingCriterionCharacteristicByNameAndCouplingCriterion(String name, CouplingCriterion couplingCriterion) {
-        return this.couplingCriteriaCharacteristics.stream().filter(ccc -> ccc.getName().equals(name) && ccc.getCouplingCriterion().equals(couplingCriterion)).findFirst().get();
+        CouplingCriterionCharacteristic characteristic = this.characteristicsByCriterionAndName.getOrDefault(couplingCriterion.getName(), Collections.emptyMap()).get(name);
+        if (characteristic == null) {
+            throw new NoSuchElementException("Characteristic " + name + " of " + couplingCriterion.getName() + " not known.");
+        }
+        return characteristic;
     }
 
+    /**
+     * @throws NoSuchElementException
+     *             if the criterion has no default characteristic
+     */
     public CouplingCriterionCharacteristic getCouplingCriterionCharacteristicByCouplingCriterionAndIsDefault(CouplingCriterion couplingCriterion) {
-        return this.couplingCriteriaCharacteristics.stream().filter(ccc -> ccc.getCouplingCriterion().equals(couplingCriterion) && ccc.isDefault()).findFirst().get();
+        CouplingCriterionCharacteristic characteristic = this.defaultCharacteristicsByCriterion.get(couplingCriterion.getName());
+        if (characteristic == null) {
+            throw new NoSuchElementException(couplingCriterion.getName() + " has no default characteristic.");
+        }
+        return characteristic;
     }
 
     private void initializeCatalog() {
@@ -97,4 +130,23 @@ public class CouplingCriteriaCatalog {
         this.couplingCriteriaCharacteristics.add(new CouplingCriterionCharacteristic(couplingCriteriaCatalog.get(SECURITY_CRITICALITY), "Public", 0, false));
     }
 
+    private void initializeIndexes() {
+        Map<String, List<CouplingCriterionCharacteristic>> characteristics = new HashMap<>();
+        Map<String, Map<String, CouplingCriterionCharacteristic>> characteristicsByName = new HashMap<>();
+        Map<String, CouplingCriterionCharacteristic> defaultCharacteristics = new HashMap<>();
+        for (CouplingCriterionCharacteristic characteristic : this.couplingCriteriaCharacteristics) {
+            String criterionName = characteristic.getCouplingCriterion().getName();
+            characteristics.computeIfAbsent(criterionName, name -> new ArrayList<>()).add(characteristic);
+            characteristicsByName.computeIfAbsent(criterionName, name -> new HashMap<>()).putIfAbsent(characteristic.getName(), characteristic);
+            if (characteristic.isDefault()) {
+                defaultCharacteristics.putIfAbsent(criterionName, characteristic);
+            }
+        }
+        characteristics.replaceAll((criterionName, list) -> Collections.unmodifiableList(list));
+        characteristicsByName.replaceAll((criterionName, map) -> Collections.unmodifiableMap(map));
+        this.characteristicsByCriterion = Collections.unmodifiableMap(characteristics);
+        this.characteristicsByCriterionAndName = Collections.unmodifiableMap(characteristicsByName);
+        this.defaultCharacteristicsByCriterion = Collections.unmodifiableMap(defaultCharacteristics);
+    }
+
 }
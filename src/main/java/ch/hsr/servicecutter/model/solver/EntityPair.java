@@ -1,6 +1,5 @@
 package ch.hsr.servicecutter.model.solver;
 
-import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
 
 public class EntityPair {
@@ -14,19 +13,8 @@ public class EntityPair {
 
     @Override
     public int hashCode() {
-        return getCompareString().hashCode();
-    }
-
-    private String getCompareString() {
-        String idA = nanoentityA.getContextName();
-        String idB = nanoentityB.getContextName();
-        String stringToHash;
-        if (idA.compareTo(idB) > 0) {
-            stringToHash = idA + "-" + idB;
-        } else {
-            stringToHash = idB + "-" + idA;
-        }
-        return stringToHash;
+        // symmetric, since (A, B) equals (B, A)
+        return nanoentityA.hashCode() + nanoentityB.hashCode();
     }
 
     @Override
@@ -36,7 +24,15 @@ public class EntityPair {
 
     @Override
     public boolean equals(final Object obj) {
-        return getCompareString().equals(((EntityPair) obj).getCompareString());
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof EntityPair)) {
+            return false;
+        }
+        EntityPair other = (EntityPair) obj;
+        return (nanoentityA.equals(other.nanoentityA) && nanoentityB.equals(other.nanoentityB))
+                || (nanoentityA.equals(other.nanoentityB) && nanoentityB.equals(other.nanoentityA));
     }
 
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.model.solver;
+
+/**
+ * Primitive counterpart of {@link EntityPair}: packs the (unordered) pair of two nanoentity ids into one long. The
+ * smaller id is stored in the upper 32 bits, so that (a, b) and (b, a) result in the same key.
+ *
+ * @see ch.hsr.servicecutter.model.usersystem.NanoentityRegistry
+ */
+public final class EntityPairKey {
+
+    private EntityPairKey() {
+    }
+
+    public static long of(final int idA, final int idB) {
+        if (idA <= idB) {
+            return ((long) idA << 32) | (idB & 0xFFFFFFFFL);
+        }
+        return ((long) idB << 32) | (idA & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return the smaller of the two ids
+     */
+    public static int first(final long key) {
+        return (int) (key >>> 32);
+    }
+
+    /**
+     * @return the bigger of the two ids
+     */
+    public static int second(final long key) {
+        return (int) key;
+    }
+
+}
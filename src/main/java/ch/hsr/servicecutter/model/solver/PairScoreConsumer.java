@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.model.solver;
+
+/**
+ * Callback used to iterate over id-based pair scores without boxing.
+ */
+@FunctionalInterface
+public interface PairScoreConsumer {
+
+    /**
+     * @param idA   the smaller nanoentity id of the pair
+     * @param idB   the bigger nanoentity id of the pair
+     * @param score the score of the pair
+     */
+    void accept(int idA, int idB, double score);
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.model.solver;
+
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Open-addressing hash map from {@link EntityPairKey} keys to primitive double scores. Replaces
+ * {@code Map<EntityPair, Double>} within the scoring pipeline, so that neither keys nor values have to be boxed.
+ */
+public class PairScoreMap {
+
+    private static final long FREE = -1L;
+    private static final double LOAD_FACTOR = 0.6d;
+
+    private long[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public PairScoreMap() {
+        this(16);
+    }
+
+    public PairScoreMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(final long key) {
+        return keys[indexOf(key)] != FREE;
+    }
+
+    /**
+     * @return the score stored for the key or 0, if there is none
+     */
+    public double get(final long key) {
+        return get(key, 0d);
+    }
+
+    public double get(final long key, final double defaultValue) {
+        int index = indexOf(key);
+        return keys[index] != FREE ? values[index] : defaultValue;
+    }
+
+    public double get(final int idA, final int idB) {
+        return get(EntityPairKey.of(idA, idB));
+    }
+
+    public void put(final long key, final double value) {
+        int index = indexOf(key);
+        if (keys[index] == FREE) {
+            keys[index] = key;
+            values[index] = value;
+            if (++size > resizeThreshold) {
+                rehash(keys.length << 1);
+            }
+        } else {
+            values[index] = value;
+        }
+    }
+
+    public void put(final int idA, final int idB, final double value) {
+        put(EntityPairKey.of(idA, idB), value);
+    }
+
+    /**
+     * Adds the delta to the score of the key (or inserts it, if there is none) with a single lookup.
+     *
+     * @return the new score
+     */
+    public double addTo(final long key, final double delta) {
+        int index = indexOf(key);
+        if (keys[index] != FREE) {
+            return values[index] += delta;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    public double addTo(final int idA, final int idB, final double delta) {
+        return addTo(EntityPairKey.of(idA, idB), delta);
+    }
+
+    /**
+     * @return the removed score or 0, if there was none
+     */
+    public double remove(final long key) {
+        int index = indexOf(key);
+        if (keys[index] == FREE) {
+            return 0d;
+        }
+        double value = values[index];
+        // backward shift deletion: move following entries of the probe
+        // sequence into the gap, so that no tombstones are needed
+        int gap = index;
+        int next = (gap + 1) & mask;
+        while (keys[next] != FREE) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = FREE;
+        size--;
+        return value;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * Applies the operator to all stored scores in place.
+     */
+    public void replaceAll(final DoubleUnaryOperator operator) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                values[i] = operator.applyAsDouble(values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return a copy of all stored scores (in no particular order)
+     */
+    public double[] values() {
+        double[] result = new double[size];
+        int next = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                result[next++] = values[i];
+            }
+        }
+        return result;
+    }
+
+    public void forEach(final PairScoreConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            if (key != FREE) {
+                consumer.accept(EntityPairKey.first(key), EntityPairKey.second(key), values[i]);
+            }
+        }
+    }
+
+    /**
+     * Adapter to the object-based representation used by the public API.
+     *
+     * @param registry the registry the ids of this map have been taken from
+     */
+    public Map<EntityPair, Double> toEntityPairMap(final NanoentityRegistry registry) {
+        Map<EntityPair, Double> result = new HashMap<>();
+        forEach((idA, idB, score) -> result.put(new EntityPair(registry.getNanoentity(idA), registry.getNanoentity(idB)), score));
+        return result;
+    }
+
+    private int indexOf(final long key) {
+        int index = hash(key) & mask;
+        while (keys[index] != FREE && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(final int newCapacity) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        values = new double[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(final long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
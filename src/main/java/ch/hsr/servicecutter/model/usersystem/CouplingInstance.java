@@ -3,7 +3,7 @@ package ch.hsr.servicecutter.model.usersystem;
 import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
 import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
 import ch.hsr.servicecutter.model.criteria.CouplingType;
-import org.junit.Assert;
+import com.google.common.base.Preconditions;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,7 +20,7 @@ public class CouplingInstance implements Comparable<CouplingInstance> {
 	private InstanceType instanceType;
 
 	public CouplingInstance(final CouplingCriterion couplingCriterion, final InstanceType type) {
-		Assert.assertNotEquals("Constructor only to be used for not-compatibility criteria!", CouplingType.COMPATIBILITY, couplingCriterion.getType());
+		Preconditions.checkArgument(couplingCriterion.getType() != CouplingType.COMPATIBILITY, "Constructor only to be used for not-compatibility criteria!");
 		instanceType = type;
 		this.couplingCriterion = couplingCriterion;
 	}
@@ -83,7 +83,7 @@ public class CouplingInstance implements Comparable<CouplingInstance> {
 	}
 
 	private void setCharacteristicAndCriterion(final CouplingCriterionCharacteristic characteristic) {
-		Assert.assertNotNull(characteristic);
+		Preconditions.checkNotNull(characteristic);
 		this.characteristic = characteristic;
 		this.couplingCriterion = characteristic.getCouplingCriterion();
 	}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.model.usersystem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interns nanoentities and assigns each of them a dense int id (0..size-1), so that the scoring pipeline can work with
+ * primitive keys instead of hashing {@link Nanoentity} objects or their names.
+ * <p>
+ * Lookups are safe to be called concurrently as long as no new nanoentity is registered at the same time.
+ */
+public class NanoentityRegistry {
+
+    private final Map<Nanoentity, Integer> ids = new HashMap<>();
+    private final List<Nanoentity> nanoentities = new ArrayList<>();
+
+    public NanoentityRegistry() {
+    }
+
+    public NanoentityRegistry(final Collection<Nanoentity> nanoentities) {
+        for (Nanoentity nanoentity : nanoentities) {
+            intern(nanoentity);
+        }
+    }
+
+    /**
+     * Returns the id of the given nanoentity and registers it, if it is not known yet.
+     */
+    public int intern(final Nanoentity nanoentity) {
+        Integer id = ids.get(nanoentity);
+        if (id != null) {
+            return id;
+        }
+        int newId = nanoentities.size();
+        ids.put(nanoentity, newId);
+        nanoentities.add(nanoentity);
+        return newId;
+    }
+
+    /**
+     * Interns all given nanoentities and returns their ids in the same order.
+     */
+    public int[] intern(final List<Nanoentity> nanoentities) {
+        int[] result = new int[nanoentities.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = intern(nanoentities.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @return the id of the nanoentity or -1, if the nanoentity is not registered
+     */
+    public int getId(final Nanoentity nanoentity) {
+        Integer id = ids.get(nanoentity);
+        return id != null ? id : -1;
+    }
+
+    public Nanoentity getNanoentity(final int id) {
+        return nanoentities.get(id);
+    }
+
+    public List<Nanoentity> getNanoentities() {
+        return Collections.unmodifiableList(nanoentities);
+    }
+
+    public int size() {
+        return nanoentities.size();
+    }
+
+}
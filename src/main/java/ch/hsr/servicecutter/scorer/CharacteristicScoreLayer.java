@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+
+import java.util.Arrays;
+
+/**
+ * Scores of a compatibility criterion: the penalty of a pair is the (negative) distance between the weights of the
+ * characteristics of the two nanoentities. Only the weight per nanoentity is stored; the penalties are computed when
+ * they are read.
+ */
+public class CharacteristicScoreLayer implements ScoreLayer {
+
+	/**
+	 * Weight of a nanoentity without characteristic; it is not scored.
+	 */
+	public static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+	private final int[] weights;
+
+	/**
+	 * @param weights
+	 *            the characteristic weight per nanoentity id or
+	 *            {@link #NO_WEIGHT}
+	 */
+	public CharacteristicScoreLayer(final int[] weights) {
+		this.weights = weights;
+	}
+
+	@Override
+	public double get(final int idA, final int idB) {
+		if (idA == idB || idA >= weights.length || idB >= weights.length || weights[idA] == NO_WEIGHT || weights[idB] == NO_WEIGHT) {
+			return 0d;
+		}
+		int distance = Math.abs(weights[idA] - weights[idB]);
+		return distance != 0 ? -distance : 0d;
+	}
+
+	@Override
+	public void forEach(final PairScoreConsumer consumer) {
+		int[][] buckets = getBuckets();
+		for (int i = 0; i < buckets.length - 1; i++) {
+			for (int j = i + 1; j < buckets.length; j++) {
+				double score = -Math.abs(weights[buckets[i][0]] - weights[buckets[j][0]]);
+				for (int idA : buckets[i]) {
+					for (int idB : buckets[j]) {
+						consumer.accept(Math.min(idA, idB), Math.max(idA, idB), score);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The penalties are never positive.
+	 */
+	@Override
+	public void forEachPositive(final PairScoreConsumer consumer) {
+	}
+
+	@Override
+	public int size() {
+		long scored = 0;
+		long sumOfSquares = 0;
+		for (int[] bucket : getBuckets()) {
+			scored += bucket.length;
+			sumOfSquares += (long) bucket.length * bucket.length;
+		}
+		return (int) ((scored * scored - sumOfSquares) / 2);
+	}
+
+	int getWeight(final int id) {
+		return id < weights.length ? weights[id] : NO_WEIGHT;
+	}
+
+	void setWeight(final int id, final int weight) {
+		weights[id] = weight;
+	}
+
+	/**
+	 * @return the ids of the scored nanoentities, grouped by weight
+	 */
+	private int[][] getBuckets() {
+		int[] distinctWeights = Arrays.stream(weights).filter(weight -> weight != NO_WEIGHT).sorted().distinct().toArray();
+		int[] bucketSizes = new int[distinctWeights.length];
+		int[] bucketOfId = new int[weights.length];
+		for (int id = 0; id < weights.length; id++) {
+			if (weights[id] != NO_WEIGHT) {
+				bucketOfId[id] = Arrays.binarySearch(distinctWeights, weights[id]);
+				bucketSizes[bucketOfId[id]]++;
+			}
+		}
+		int[][] buckets = new int[distinctWeights.length][];
+		for (int bucket = 0; bucket < buckets.length; bucket++) {
+			buckets[bucket] = new int[bucketSizes[bucket]];
+			bucketSizes[bucket] = 0;
+		}
+		for (int id = 0; id < weights.length; id++) {
+			if (weights[id] != NO_WEIGHT) {
+				int bucket = bucketOfId[id];
+				buckets[bucket][bucketSizes[bucket]++] = id;
+			}
+		}
+		return buckets;
+	}
+
+}
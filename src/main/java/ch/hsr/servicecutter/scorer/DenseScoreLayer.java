@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+
+/**
+ * Stores the scores of all pairs in one flat array (upper triangle of the score matrix). Used for criteria which score
+ * a large share of all pairs.
+ */
+public class DenseScoreLayer implements ScoreLayer {
+
+	private final int nanoentityCount;
+	private final double[] scores;
+	private int size;
+
+	public DenseScoreLayer(final int nanoentityCount) {
+		long pairCount = pairCount(nanoentityCount);
+		if (pairCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("Too many nanoentities for a dense score layer: " + nanoentityCount);
+		}
+		this.nanoentityCount = nanoentityCount;
+		this.scores = new double[(int) pairCount];
+	}
+
+	public DenseScoreLayer(final PairScoreMap scores, final int nanoentityCount) {
+		this(nanoentityCount);
+		scores.forEach(this::set);
+	}
+
+	static long pairCount(final int nanoentityCount) {
+		return (long) nanoentityCount * (nanoentityCount - 1) / 2;
+	}
+
+	@Override
+	public double get(final int idA, final int idB) {
+		if (idA == idB) {
+			return 0d;
+		}
+		return scores[index(idA, idB)];
+	}
+
+	void set(final int idA, final int idB, final double score) {
+		int index = index(idA, idB);
+		if (scores[index] == 0d && score != 0d) {
+			size++;
+		} else if (scores[index] != 0d && score == 0d) {
+			size--;
+		}
+		scores[index] = score;
+	}
+
+	@Override
+	public void forEach(final PairScoreConsumer consumer) {
+		int index = 0;
+		for (int a = 0; a < nanoentityCount - 1; a++) {
+			for (int b = a + 1; b < nanoentityCount; b++) {
+				double score = scores[index++];
+				if (score != 0d) {
+					consumer.accept(a, b, score);
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	private int index(final int idA, final int idB) {
+		int a = Math.min(idA, idB);
+		int b = Math.max(idA, idB);
+		// offset of row a in the upper triangle plus the position within the row
+		return (int) ((long) a * (2L * nanoentityCount - a - 1) / 2) + (b - a - 1);
+	}
+
+}
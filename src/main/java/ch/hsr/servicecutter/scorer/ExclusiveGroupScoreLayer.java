@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Scores of exclusive groups (e.g. predefined services): a premium for the pairs within a group and a penalty between
+ * the members of a group and all other nanoentities. If the groups overlap, the last group containing one of the two
+ * nanoentities decides. Only the last group of every nanoentity is stored; the penalties, which cover almost all
+ * pairs, are never materialized.
+ */
+public class ExclusiveGroupScoreLayer implements ScoreLayer {
+
+	private final double premium;
+	private final double penalty;
+	private final int[] lastGroups;
+	private final int[][] membersByLastGroup;
+	private final int[] groupedIds;
+	private int size = -1;
+
+	/**
+	 * @param groups
+	 *            the nanoentity ids of every group, in the order of the groups
+	 */
+	public ExclusiveGroupScoreLayer(final double premium, final double penalty, final List<int[]> groups, final int nanoentityCount) {
+		this.premium = premium;
+		this.penalty = penalty;
+		this.lastGroups = new int[nanoentityCount];
+		Arrays.fill(lastGroups, -1);
+		for (int group = 0; group < groups.size(); group++) {
+			for (int id : groups.get(group)) {
+				lastGroups[id] = group;
+			}
+		}
+		List<List<Integer>> members = new ArrayList<>();
+		for (int group = 0; group < groups.size(); group++) {
+			members.add(new ArrayList<>());
+		}
+		int groupedCount = 0;
+		for (int id = 0; id < nanoentityCount; id++) {
+			if (lastGroups[id] >= 0) {
+				members.get(lastGroups[id]).add(id);
+				groupedCount++;
+			}
+		}
+		this.membersByLastGroup = new int[members.size()][];
+		for (int group = 0; group < members.size(); group++) {
+			membersByLastGroup[group] = members.get(group).stream().mapToInt(Integer::intValue).toArray();
+		}
+		this.groupedIds = new int[groupedCount];
+		for (int id = 0, next = 0; id < nanoentityCount; id++) {
+			if (lastGroups[id] >= 0) {
+				groupedIds[next++] = id;
+			}
+		}
+	}
+
+	@Override
+	public double get(final int idA, final int idB) {
+		if (idA == idB || idA >= lastGroups.length || idB >= lastGroups.length) {
+			return 0d;
+		}
+		int lastGroupA = lastGroups[idA];
+		int lastGroupB = lastGroups[idB];
+		if (lastGroupA < 0 && lastGroupB < 0) {
+			return 0d;
+		}
+		// the last group containing one of them contains both, if and only if
+		// it is the last group of both
+		return lastGroupA == lastGroupB ? premium : penalty;
+	}
+
+	@Override
+	public void forEach(final PairScoreConsumer consumer) {
+		for (int idA = 0; idA < lastGroups.length; idA++) {
+			if (lastGroups[idA] >= 0) {
+				for (int idB = idA + 1; idB < lastGroups.length; idB++) {
+					accept(consumer, idA, idB);
+				}
+			} else {
+				for (int i = Arrays.binarySearch(groupedIds, idA) ^ -1; i < groupedIds.length; i++) {
+					accept(consumer, idA, groupedIds[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Iterates over the pairs of the groups only, if the premium is the only
+	 * positive score.
+	 */
+	@Override
+	public void forEachPositive(final PairScoreConsumer consumer) {
+		if (penalty > 0d) {
+			ScoreLayer.super.forEachPositive(consumer);
+			return;
+		}
+		if (premium <= 0d) {
+			return;
+		}
+		for (int[] members : membersByLastGroup) {
+			for (int i = 0; i < members.length - 1; i++) {
+				for (int j = i + 1; j < members.length; j++) {
+					consumer.accept(members[i], members[j], premium);
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		if (size < 0) {
+			int[] count = { 0 };
+			forEach((idA, idB, score) -> count[0]++);
+			size = count[0];
+		}
+		return size;
+	}
+
+	private void accept(final PairScoreConsumer consumer, final int idA, final int idB) {
+		double score = get(idA, idB);
+		if (score != 0d) {
+			consumer.accept(idA, idB, score);
+		}
+	}
+
+}
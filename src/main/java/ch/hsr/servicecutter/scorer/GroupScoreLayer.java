@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Scores all pairs sharing at least one group with the same premium. Stores the group memberships instead of the pairs
+ * (which grow quadratically with the group size); the pairs are only expanded when they are iterated.
+ */
+public class GroupScoreLayer implements ScoreLayer {
+
+	private static final int[] NO_GROUPS = new int[0];
+
+	private final double premium;
+	private final int[][] members;
+	private final int[][] groupsByNanoentity;
+	private int size = -1;
+
+	/**
+	 * @param groups
+	 *            the nanoentity ids of every group; duplicates are ignored
+	 */
+	public GroupScoreLayer(final double premium, final List<int[]> groups, final int nanoentityCount) {
+		this.premium = premium;
+		this.members = new int[groups.size()][];
+		int[] groupCounts = new int[nanoentityCount];
+		for (int group = 0; group < members.length; group++) {
+			BitSet ids = new BitSet(nanoentityCount);
+			for (int id : groups.get(group)) {
+				ids.set(id);
+			}
+			members[group] = premium != 0d ? ids.stream().toArray() : NO_GROUPS;
+			for (int id : members[group]) {
+				groupCounts[id]++;
+			}
+		}
+		this.groupsByNanoentity = new int[nanoentityCount][];
+		for (int id = 0; id < nanoentityCount; id++) {
+			groupsByNanoentity[id] = groupCounts[id] > 0 ? new int[groupCounts[id]] : NO_GROUPS;
+			groupCounts[id] = 0;
+		}
+		// groups are visited in ascending order, so the lists are sorted
+		for (int group = 0; group < members.length; group++) {
+			for (int id : members[group]) {
+				groupsByNanoentity[id][groupCounts[id]++] = group;
+			}
+		}
+	}
+
+	@Override
+	public double get(final int idA, final int idB) {
+		if (idA == idB || idA >= groupsByNanoentity.length || idB >= groupsByNanoentity.length) {
+			return 0d;
+		}
+		int[] groupsA = groupsByNanoentity[idA];
+		int[] groupsB = groupsByNanoentity[idB];
+		int i = 0;
+		int j = 0;
+		while (i < groupsA.length && j < groupsB.length) {
+			if (groupsA[i] == groupsB[j]) {
+				return premium;
+			} else if (groupsA[i] < groupsB[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return 0d;
+	}
+
+	@Override
+	public void forEach(final PairScoreConsumer consumer) {
+		// the pairs of a nanoentity are marked, so that pairs sharing several
+		// groups are visited once
+		int[] visitedBy = new int[groupsByNanoentity.length];
+		Arrays.fill(visitedBy, -1);
+		for (int idA = 0; idA < groupsByNanoentity.length; idA++) {
+			for (int group : groupsByNanoentity[idA]) {
+				for (int idB : members[group]) {
+					if (idB > idA && visitedBy[idB] != idA) {
+						visitedBy[idB] = idA;
+						consumer.accept(idA, idB, premium);
+					}
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		if (size < 0) {
+			int[] count = { 0 };
+			forEach((idA, idB, score) -> count[0]++);
+			size = count[0];
+		}
+		return size;
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.EntityPairKey;
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+
+/**
+ * Hash-based layer which allows to change single scores in constant time. Used by the {@link ScoringSession} to patch
+ * scores instead of rebuilding the layer.
+ */
+public class MutableScoreLayer implements ScoreLayer {
+
+	private final PairScoreMap scores;
+
+	public MutableScoreLayer() {
+		this(new PairScoreMap());
+	}
+
+	public MutableScoreLayer(final PairScoreMap scores) {
+		this.scores = scores;
+	}
+
+	@Override
+	public double get(final int idA, final int idB) {
+		return idA != idB ? scores.get(EntityPairKey.of(idA, idB)) : 0d;
+	}
+
+	/**
+	 * Sets the score of the pair; a score of 0 removes the pair.
+	 */
+	public void set(final int idA, final int idB, final double score) {
+		if (idA == idB) {
+			return;
+		}
+		long key = EntityPairKey.of(idA, idB);
+		if (score != 0d) {
+			scores.put(key, score);
+		} else {
+			scores.remove(key);
+		}
+	}
+
+	public void clear() {
+		scores.clear();
+	}
+
+	@Override
+	public void forEach(final PairScoreConsumer consumer) {
+		scores.forEach(consumer);
+	}
+
+	@Override
+	public int size() {
+		return scores.size();
+	}
+
+}
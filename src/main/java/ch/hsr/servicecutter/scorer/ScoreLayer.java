@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+
+/**
+ * The (not prioritized) scores of one coupling criterion, indexed by nanoentity id.
+ *
+ * @see ScoreMatrix
+ */
+public interface ScoreLayer {
+
+	/**
+	 * @return the score of the pair or 0, if the criterion does not score it
+	 */
+	double get(int idA, int idB);
+
+	/**
+	 * Iterates over all scored pairs (idA &lt; idB).
+	 */
+	void forEach(PairScoreConsumer consumer);
+
+	/**
+	 * Iterates over all pairs with a positive score (idA &lt; idB). Layers
+	 * implying scores for most pairs can skip the negative ones without
+	 * visiting them.
+	 */
+	default void forEachPositive(final PairScoreConsumer consumer) {
+		forEach((idA, idB, score) -> {
+			if (score > 0d) {
+				consumer.accept(idA, idB, score);
+			}
+		});
+	}
+
+	/**
+	 * @return the number of scored pairs
+	 */
+	int size();
+
+}
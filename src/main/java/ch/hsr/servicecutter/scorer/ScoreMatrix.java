@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.EntityPair;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Columnar representation of all scores: one {@link ScoreLayer} per coupling criterion, indexed by the ids of the
+ * {@link NanoentityRegistry}. The layers hold the raw scores; priorities are applied when the scores are read.
+ */
+public class ScoreMatrix {
+
+	/**
+	 * Share of all possible pairs from which on a criterion is stored densely.
+	 */
+	public static final double DENSE_FILL_RATIO = 0.5d;
+
+	private static final Logger log = LoggerFactory.getLogger(ScoreMatrix.class);
+
+	private final NanoentityRegistry registry;
+	private final Map<String, ScoreLayer> layers;
+
+	public ScoreMatrix(final NanoentityRegistry registry, final Map<String, ScoreLayer> layers) {
+		this.registry = registry;
+		this.layers = Collections.unmodifiableMap(new LinkedHashMap<>(layers));
+	}
+
+	/**
+	 * Creates the matrix choosing dense or sparse storage per criterion.
+	 */
+	public static ScoreMatrix of(final NanoentityRegistry registry, final Map<String, PairScoreMap> scoresByCriterion) {
+		Map<String, ScoreLayer> layers = new LinkedHashMap<>();
+		for (Entry<String, PairScoreMap> criterionScores : scoresByCriterion.entrySet()) {
+			layers.put(criterionScores.getKey(), createLayer(criterionScores.getValue(), registry.size()));
+		}
+		return new ScoreMatrix(registry, layers);
+	}
+
+	/**
+	 * Creates the layer of the scores keyed by the ids of the registry. Scores of a nanoentity with itself are ignored.
+	 */
+	public static ScoreLayer createLayer(final PairScoreMap scores, final NanoentityRegistry registry) {
+		PairScoreMap pairScores = new PairScoreMap(scores.size());
+		scores.forEach((idA, idB, score) -> {
+			if (idA == idB) {
+				log.warn("score on same nanoentity ignored. Nanoentity: {}, Score: {}", registry.getNanoentity(idA), score);
+				return;
+			}
+			pairScores.put(idA, idB, score);
+		});
+		return createLayer(pairScores, registry.size());
+	}
+
+	public static ScoreLayer createLayer(final PairScoreMap scores, final int nanoentityCount) {
+		long pairCount = DenseScoreLayer.pairCount(nanoentityCount);
+		if (pairCount > 0 && pairCount <= Integer.MAX_VALUE - 8 && scores.size() >= pairCount * DENSE_FILL_RATIO) {
+			return new DenseScoreLayer(scores, nanoentityCount);
+		}
+		return new SparseScoreLayer(scores, nanoentityCount);
+	}
+
+	public NanoentityRegistry getNanoentityRegistry() {
+		return registry;
+	}
+
+	public Set<String> getCriteria() {
+		return layers.keySet();
+	}
+
+	/**
+	 * @return the layer of the criterion or null, if the criterion has not been scored
+	 */
+	public ScoreLayer getLayer(final String criterion) {
+		return layers.get(criterion);
+	}
+
+	public double getScore(final String criterion, final int idA, final int idB) {
+		ScoreLayer layer = layers.get(criterion);
+		return layer != null ? layer.get(idA, idB) : 0d;
+	}
+
+	/**
+	 * Sums up the prioritized scores of all criteria per pair.
+	 */
+	public PairScoreMap getWeightedScores(final Function<String, Double> priorityProvider) {
+		PairScoreMap result = new PairScoreMap();
+		for (Entry<String, ScoreLayer> layer : layers.entrySet()) {
+			double priority = priorityProvider.apply(layer.getKey());
+			layer.getValue().forEach((idA, idB, score) -> result.addTo(idA, idB, score * priority));
+		}
+		return result;
+	}
+
+	/**
+	 * Sums up the prioritized scores of the pairs with a positive sum only, which are the pairs the solvers keep as
+	 * edges. With non-negative priorities, only a pair with a positive score in some criterion can have a positive sum,
+	 * so the candidates are collected from the positive scores and the other pairs (e.g. the implied penalties of
+	 * exclusive groups) are never visited. The scores of a pair are summed up in the same order as in
+	 * {@link #getWeightedScores(Function)}.
+	 */
+	public PairScoreMap getPositiveWeightedScores(final Function<String, Double> priorityProvider) {
+		String[] criteria = layers.keySet().toArray(new String[0]);
+		ScoreLayer[] criterionLayers = new ScoreLayer[criteria.length];
+		double[] priorities = new double[criteria.length];
+		for (int i = 0; i < criteria.length; i++) {
+			criterionLayers[i] = layers.get(criteria[i]);
+			priorities[i] = priorityProvider.apply(criteria[i]);
+			if (priorities[i] < 0d) {
+				PairScoreMap result = new PairScoreMap();
+				getWeightedScores(priorityProvider).forEach((idA, idB, weight) -> {
+					if (weight > 0d) {
+						result.put(idA, idB, weight);
+					}
+				});
+				return result;
+			}
+		}
+
+		PairScoreMap candidates = new PairScoreMap();
+		for (int i = 0; i < criterionLayers.length; i++) {
+			if (priorities[i] > 0d) {
+				criterionLayers[i].forEachPositive((idA, idB, score) -> candidates.put(idA, idB, 0d));
+			}
+		}
+		PairScoreMap result = new PairScoreMap(candidates.size());
+		candidates.forEach((idA, idB, ignored) -> {
+			double weight = 0d;
+			for (int i = 0; i < criterionLayers.length; i++) {
+				double score = criterionLayers[i].get(idA, idB);
+				if (score != 0d) {
+					weight += score * priorities[i];
+				}
+			}
+			if (weight > 0d) {
+				result.put(idA, idB, weight);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Adapter to the object-based representation with one {@link Score} per pair and criterion.
+	 */
+	public Map<EntityPair, Map<String, Score>> toEntityPairScores(final Function<String, Double> priorityProvider) {
+		Map<EntityPair, Map<String, Score>> result = new HashMap<>();
+		for (Entry<String, ScoreLayer> layer : layers.entrySet()) {
+			String criterionName = layer.getKey();
+			double priority = priorityProvider.apply(criterionName);
+			layer.getValue().forEach((idA, idB, score) -> result
+					.computeIfAbsent(new EntityPair(registry.getNanoentity(idA), registry.getNanoentity(idB)), pair -> new HashMap<>())
+					.put(criterionName, new Score(score, priority)));
+		}
+		return result;
+	}
+
+}
@@ -3,13 +3,15 @@ package ch.hsr.servicecutter.scorer;
 import java.security.InvalidParameterException;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
+import ch.hsr.servicecutter.api.ServiceCutterContext;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
 
 import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
 import ch.hsr.servicecutter.model.criteria.CouplingType;
@@ -17,6 +19,7 @@ import ch.hsr.servicecutter.model.solver.EntityPair;
 import ch.hsr.servicecutter.model.usersystem.InstanceType;
 import ch.hsr.servicecutter.scorer.criterionScorer.CharacteristicsCriteriaScorer;
 import ch.hsr.servicecutter.scorer.criterionScorer.CohesiveGroupCriterionScorer;
+import ch.hsr.servicecutter.scorer.criterionScorer.CriterionScorer;
 import ch.hsr.servicecutter.scorer.criterionScorer.ExclusiveGroupCriterionScorer;
 import ch.hsr.servicecutter.scorer.criterionScorer.SemanticProximityCriterionScorer;
 import ch.hsr.servicecutter.scorer.criterionScorer.SeparatedGroupCriterionScorer;
@@ -27,120 +30,184 @@ public class Scorer {
 	public static final double MIN_SCORE = -10d;
 	public static final double NO_SCORE = 0d;
 
-	private Logger log = LoggerFactory.getLogger(Scorer.class);
-
 	private List<CouplingInstance> couplingInstanceList;
-	private Set<Nanoentity> nanoentitySet;
+	private ServiceCutterContext context;
+	private NanoentityRegistry registry;
+	private ForkJoinPool forkJoinPool;
 
 	public Scorer(final List<CouplingInstance> couplingInstanceList, final Set<Nanoentity> nanoentitySet) {
-		this.couplingInstanceList = couplingInstanceList;
-		this.nanoentitySet = nanoentitySet;
+		this(couplingInstanceList, new NanoentityRegistry(nanoentitySet));
 	}
 
-	public Map<EntityPair, Map<String, Score>> getScores(final Function<String, Double> priorityProvider) {
-		if (new HashSet<>(couplingInstanceList).isEmpty()) {
-			throw new InvalidParameterException("userSystem needs at least 1 coupling criterion in order for gephi clusterer to work");
-		}
-		Map<EntityPair, Map<String, Score>> result = new HashMap<>();
-
-		addScoresForCharacteristicsCriteria(priorityProvider, result);
-		addScoresForConstraintsCriteria(priorityProvider, result);
-		addScoresForProximityCriteria(priorityProvider, result);
-		return result;
-
+	/**
+	 * @param registry
+	 *            registry containing all nanoentities of the system; the
+	 *            scores are keyed by the ids of this registry
+	 */
+	public Scorer(final List<CouplingInstance> couplingInstanceList, final NanoentityRegistry registry) {
+		this.couplingInstanceList = couplingInstanceList;
+		this.registry = registry;
 	}
 
-	private Set<CouplingInstance> getCouplingInstancesByCriterionName(String criterionName) {
-		return couplingInstanceList.stream().filter(ci -> criterionName.equals(ci.getCouplingCriterion().getName())).collect(Collectors.toSet());
+	/**
+	 * Scores the coupling instances of the context; takes the instances per
+	 * criterion from the indexes of the context instead of partitioning them.
+	 */
+	public Scorer(final ServiceCutterContext context) {
+		this(context.getCouplingInstances(), context.getNanoentityRegistry());
+		this.context = context;
 	}
 
-	private Set<CouplingInstance> getCouplingInstancesByType(InstanceType instanceType) {
-		return couplingInstanceList.stream().filter(ci -> instanceType.equals(ci.getType())).collect(Collectors.toSet());
+	public NanoentityRegistry getNanoentityRegistry() {
+		return registry;
 	}
 
-	private Map<String, Set<CouplingInstance>> getCouplingInstancesByCouplingType(CouplingType couplingType) {
-		return groupByCriterion(couplingInstanceList.stream().filter(ci -> couplingType.equals(ci.getCouplingCriterion().getType())).collect(Collectors.toSet()));
+	/**
+	 * The criteria are independent of each other; if a pool is set, they are
+	 * scored in parallel on it. Otherwise (default) they are scored one after
+	 * another on the calling thread.
+	 */
+	public void setForkJoinPool(final ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
 	}
 
-	private void addScoresForProximityCriteria(final Function<String, Double> priorityProvider, final Map<EntityPair, Map<String, Score>> result) {
-		Map<EntityPair, Double> lifecycleScores = new CohesiveGroupCriterionScorer()
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.IDENTITY_LIFECYCLE));
-		addScoresByCriterionToResult(result, CouplingCriterion.IDENTITY_LIFECYCLE, lifecycleScores, priorityProvider.apply(CouplingCriterion.IDENTITY_LIFECYCLE));
-
-		Map<EntityPair, Double> semanticProximityScores = new SemanticProximityCriterionScorer()
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.SEMANTIC_PROXIMITY));
-		addScoresByCriterionToResult(result, CouplingCriterion.SEMANTIC_PROXIMITY, semanticProximityScores, priorityProvider.apply(CouplingCriterion.SEMANTIC_PROXIMITY));
-
-		Map<EntityPair, Double> responsibilityScores = new CohesiveGroupCriterionScorer()
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.SHARED_OWNER));
-		addScoresByCriterionToResult(result, CouplingCriterion.SHARED_OWNER, responsibilityScores, priorityProvider.apply(CouplingCriterion.SHARED_OWNER));
-
-		// latency
-		Map<EntityPair, Double> latencyScores = new CohesiveGroupCriterionScorer()
-				.getScores(getCouplingInstancesByType(InstanceType.LATENCY_USE_CASE));
-		addScoresByCriterionToResult(result, CouplingCriterion.LATENCY, latencyScores, priorityProvider.apply(CouplingCriterion.LATENCY));
+	/**
+	 * Scores all nanoentity pairs. The resulting matrix contains one layer of
+	 * (not prioritized) scores per criterion.
+	 */
+	public ScoreMatrix getScoreMatrix() {
+		return getScoreMatrix(criterion -> true);
+	}
 
-		// security contextuality
-		Map<EntityPair, Double> securityContextualityScores = new CohesiveGroupCriterionScorer()
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.SECURITY_CONTEXUALITY));
-		addScoresByCriterionToResult(result, CouplingCriterion.SECURITY_CONTEXUALITY, securityContextualityScores, priorityProvider.apply(CouplingCriterion.SECURITY_CONTEXUALITY));
+	/**
+	 * Scores the criteria accepted by the filter only. The matrix contains
+	 * all criteria in the same order as {@link #getScoreMatrix()}, the
+	 * layers of the rejected criteria are empty.
+	 */
+	public ScoreMatrix getScoreMatrix(final Predicate<String> criterionFilter) {
+		if (couplingInstanceList.isEmpty()) {
+			throw new InvalidParameterException("userSystem needs at least 1 coupling criterion in order for gephi clusterer to work");
+		}
+		List<CriterionScoring> scorings = createCriterionScorings();
+		ScoreLayer[] layers = new ScoreLayer[scorings.size()];
+		if (forkJoinPool == null) {
+			for (int i = 0; i < layers.length; i++) {
+				layers[i] = criterionFilter.test(scorings.get(i).criterionName) ? scorings.get(i).score() : new MutableScoreLayer();
+			}
+		} else {
+			// every task writes its own layer, so no synchronization is needed
+			// beyond joining the tasks
+			List<ForkJoinTask<ScoreLayer>> tasks = new ArrayList<>();
+			for (CriterionScoring scoring : scorings) {
+				tasks.add(criterionFilter.test(scoring.criterionName) ? forkJoinPool.submit(scoring::score) : null);
+			}
+			for (int i = 0; i < layers.length; i++) {
+				layers[i] = tasks.get(i) != null ? tasks.get(i).join() : new MutableScoreLayer();
+			}
+		}
 
+		Map<String, ScoreLayer> result = new LinkedHashMap<>();
+		for (int i = 0; i < layers.length; i++) {
+			result.put(scorings.get(i).criterionName, layers[i]);
+		}
+		return new ScoreMatrix(registry, result);
 	}
 
-	private void addScoresForCharacteristicsCriteria(final Function<String, Double> priorityProvider,
-			final Map<EntityPair, Map<String, Score>> result) {
-		Map<String, Map<EntityPair, Double>> scoresByCriterion = new CharacteristicsCriteriaScorer()
-				.getScores(getCouplingInstancesByCouplingType(CouplingType.COMPATIBILITY));
-		for (Entry<String, Map<EntityPair, Double>> distanceScores : scoresByCriterion.entrySet()) {
-			addScoresByCriterionToResult(result, distanceScores.getKey(), distanceScores.getValue(), priorityProvider.apply(distanceScores.getKey()));
+	/**
+	 * Scores a single criterion only.
+	 *
+	 * @return the layer of the criterion or null, if the criterion is not
+	 *         scored
+	 */
+	public ScoreLayer getScoreLayer(final String criterionName) {
+		for (CriterionScoring scoring : createCriterionScorings()) {
+			if (scoring.criterionName.equals(criterionName)) {
+				return scoring.score();
+			}
 		}
+		return null;
 	}
 
-	private void addScoresForConstraintsCriteria(final Function<String, Double> priorityProvider, final Map<EntityPair, Map<String, Score>> result) {
-		Map<EntityPair, Double> securityScores = new SeparatedGroupCriterionScorer()
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.SECURITY_CONSTRAINT));
-		addScoresByCriterionToResult(result, CouplingCriterion.SECURITY_CONSTRAINT, securityScores, priorityProvider.apply(CouplingCriterion.SECURITY_CONSTRAINT));
-
-		Map<EntityPair, Double> predefinedServiceScores = new ExclusiveGroupCriterionScorer(nanoentitySet)
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.PREDEFINED_SERVICE));
-		addScoresByCriterionToResult(result, CouplingCriterion.PREDEFINED_SERVICE, predefinedServiceScores, priorityProvider.apply(CouplingCriterion.PREDEFINED_SERVICE));
-
-		Map<EntityPair, Double> consistencyConstraintScores = new CohesiveGroupCriterionScorer()
-				.getScores(getCouplingInstancesByCriterionName(CouplingCriterion.CONSISTENCY_CONSTRAINT));
-		addScoresByCriterionToResult(result, CouplingCriterion.CONSISTENCY_CONSTRAINT, consistencyConstraintScores,
-				priorityProvider.apply(CouplingCriterion.CONSISTENCY_CONSTRAINT));
+	/**
+	 * Object-based variant of {@link #getScoreMatrix()} with the priorities
+	 * applied.
+	 */
+	public Map<EntityPair, Map<String, Score>> getScores(final Function<String, Double> priorityProvider) {
+		return getScoreMatrix().toEntityPairScores(priorityProvider);
 	}
 
-	private void addScoresByCriterionToResult(final Map<EntityPair, Map<String, Score>> result, final String couplingCriterionName, final Map<EntityPair, Double> scores,
-			final Double priority) {
-		for (Entry<EntityPair, Double> nanoentityScore : scores.entrySet()) {
-			addScoresToResult(result, nanoentityScore.getKey(), couplingCriterionName, nanoentityScore.getValue(), priority);
+	/**
+	 * Partitions the coupling instances by criterion (unless the context
+	 * provides them) and creates one scoring per criterion.
+	 */
+	private List<CriterionScoring> createCriterionScorings() {
+		Map<String, ? extends Collection<CouplingInstance>> instancesByCriterion;
+		Collection<CouplingInstance> latencyInstances;
+		if (context != null) {
+			instancesByCriterion = context.getCouplingInstancesGroupedByCriterion();
+			latencyInstances = context.getCouplingInstancesByType(InstanceType.LATENCY_USE_CASE);
+		} else {
+			Map<String, Set<CouplingInstance>> partition = new LinkedHashMap<>();
+			Set<CouplingInstance> latencyPartition = new LinkedHashSet<>();
+			for (CouplingInstance instance : couplingInstanceList) {
+				partition.computeIfAbsent(instance.getCouplingCriterion().getName(), name -> new LinkedHashSet<>()).add(instance);
+				if (InstanceType.LATENCY_USE_CASE.equals(instance.getType())) {
+					latencyPartition.add(instance);
+				}
+			}
+			instancesByCriterion = partition;
+			latencyInstances = latencyPartition;
 		}
-	}
-
-	private void addScoresToResult(final Map<EntityPair, Map<String, Score>> result, final EntityPair nanoentities, final String criterionName, final double score,
-			final double priority) {
-		if (nanoentities.nanoentityA.equals(nanoentities.nanoentityB)) {
-			log.warn("score on same nanoentity ignored. Nanoentity: {}, Score: {}, Criterion: {}", nanoentities.nanoentityA, score, criterionName);
-			return;
+		// the scorers only read from the registry afterwards, which allows to
+		// share it between threads
+		for (CouplingInstance instance : couplingInstanceList) {
+			registry.intern(instance.getNanoentities());
+			registry.intern(instance.getSecondNanoentities());
 		}
+		Function<String, Collection<CouplingInstance>> instances = name -> instancesByCriterion.containsKey(name) ? instancesByCriterion.get(name) : Collections.emptySet();
 
-		if (result.get(nanoentities) == null) {
-			result.put(nanoentities, new HashMap<>());
+		List<CriterionScoring> scorings = new ArrayList<>();
+		// characteristics
+		for (Entry<String, ? extends Collection<CouplingInstance>> criterionInstances : instancesByCriterion.entrySet()) {
+			if (CouplingType.COMPATIBILITY.equals(criterionInstances.getValue().iterator().next().getCouplingCriterion().getType())) {
+				scorings.add(new CriterionScoring(criterionInstances.getKey(), new CharacteristicsCriteriaScorer(), criterionInstances.getValue()));
+			}
 		}
-		result.get(nanoentities).put(criterionName, new Score(score, priority));
+
+		// constraints
+		scorings.add(new CriterionScoring(CouplingCriterion.SECURITY_CONSTRAINT, new SeparatedGroupCriterionScorer(), instances.apply(CouplingCriterion.SECURITY_CONSTRAINT)));
+		scorings.add(new CriterionScoring(CouplingCriterion.PREDEFINED_SERVICE, new ExclusiveGroupCriterionScorer(registry.getNanoentities()),
+				instances.apply(CouplingCriterion.PREDEFINED_SERVICE)));
+		scorings.add(new CriterionScoring(CouplingCriterion.CONSISTENCY_CONSTRAINT, new CohesiveGroupCriterionScorer(), instances.apply(CouplingCriterion.CONSISTENCY_CONSTRAINT)));
+
+		// proximity
+		scorings.add(new CriterionScoring(CouplingCriterion.IDENTITY_LIFECYCLE, new CohesiveGroupCriterionScorer(), instances.apply(CouplingCriterion.IDENTITY_LIFECYCLE)));
+		scorings.add(new CriterionScoring(CouplingCriterion.SEMANTIC_PROXIMITY, new SemanticProximityCriterionScorer(), instances.apply(CouplingCriterion.SEMANTIC_PROXIMITY)));
+		scorings.add(new CriterionScoring(CouplingCriterion.SHARED_OWNER, new CohesiveGroupCriterionScorer(), instances.apply(CouplingCriterion.SHARED_OWNER)));
+		scorings.add(new CriterionScoring(CouplingCriterion.LATENCY, new CohesiveGroupCriterionScorer(), latencyInstances));
+		scorings.add(new CriterionScoring(CouplingCriterion.SECURITY_CONTEXUALITY, new CohesiveGroupCriterionScorer(), instances.apply(CouplingCriterion.SECURITY_CONTEXUALITY)));
+		return scorings;
 	}
 
-	private Map<String, Set<CouplingInstance>> groupByCriterion(final Set<CouplingInstance> instances) {
-		Map<String, Set<CouplingInstance>> instancesByCriterion = new HashMap<>();
-		for (CouplingInstance instance : instances) {
-			String ccName = instance.getCouplingCriterion().getName();
-			if (instancesByCriterion.get(ccName) == null) {
-				instancesByCriterion.put(ccName, new HashSet<CouplingInstance>());
-			}
-			instancesByCriterion.get(ccName).add(instance);
+	/**
+	 * Scoring of one criterion; independent of all other criteria.
+	 */
+	private class CriterionScoring {
+
+		private final String criterionName;
+		private final CriterionScorer scorer;
+		private final Collection<CouplingInstance> instances;
+
+		CriterionScoring(final String criterionName, final CriterionScorer scorer, final Collection<CouplingInstance> instances) {
+			this.criterionName = criterionName;
+			this.scorer = scorer;
+			this.instances = instances;
+		}
+
+		ScoreLayer score() {
+			return scorer.getScoreLayer(instances, registry);
 		}
-		return instancesByCriterion;
+
 	}
 
 }
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
+import ch.hsr.servicecutter.model.criteria.CouplingType;
+import ch.hsr.servicecutter.model.solver.EntityPairKey;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.InstanceType;
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.criterionScorer.SemanticProximityCriterionScorer;
+
+/**
+ * Keeps the scores of a context up to date while the model is edited, so that
+ * a decomposition can be generated after every edit without scoring the whole
+ * model again. Edits have to be applied through the session:
+ * <ul>
+ * <li>use cases and cohesive groups only patch the pairs they contain; the
+ * semantic proximity scores are renormalized only if the reference value of
+ * the normalization changes,</li>
+ * <li>characteristic reassignments update the weight of the nanoentity,</li>
+ * <li>separated and exclusive groups (security constraints and predefined
+ * services) score their criterion again.</li>
+ * </ul>
+ * The session is not thread-safe.
+ */
+public class ScoringSession {
+
+	private static final List<String> COHESIVE_CRITERIA = Arrays.asList(CouplingCriterion.CONSISTENCY_CONSTRAINT, CouplingCriterion.IDENTITY_LIFECYCLE,
+			CouplingCriterion.SHARED_OWNER, CouplingCriterion.LATENCY, CouplingCriterion.SECURITY_CONTEXUALITY);
+
+	private final ServiceCutterContext context;
+	private final NanoentityRegistry registry;
+	private final Scorer scorer;
+	private final Map<String, ScoreLayer> layers;
+	// nanoentities added to the context afterwards are not part of the layers
+	private final int nanoentityCount;
+
+	private final SemanticProximityCriterionScorer semanticScorer = new SemanticProximityCriterionScorer();
+	private final MutableScoreLayer semanticLayer = new MutableScoreLayer();
+	// sums of the use case and aggregation scores per pair (including pairs
+	// of a nanoentity with itself, as they count for the normalization)
+	private final PairScoreMap rawSemanticScores = new PairScoreMap();
+	// number of pairs per raw score; the raw scores are integral, so there
+	// are only few distinct values
+	private final TreeMap<Double, Integer> rawSemanticScoreCounts = new TreeMap<>();
+	private double semanticDivisor;
+
+	// number of groups containing a pair, per cohesive criterion
+	private final Map<String, PairScoreMap> groupCounts = new HashMap<>();
+
+	public ScoringSession(final ServiceCutterContext context) {
+		this.context = context;
+		this.registry = context.getNanoentityRegistry();
+		this.scorer = new Scorer(context);
+		this.layers = new LinkedHashMap<>();
+		// the session builds the layers of the criteria it maintains from the
+		// instances itself
+		ScoreMatrix scores = scorer.getScoreMatrix(criterion -> !isMaintained(criterion));
+		this.nanoentityCount = registry.size();
+		for (String criterion : scores.getCriteria()) {
+			layers.put(criterion, scores.getLayer(criterion));
+		}
+		initialize();
+	}
+
+	public ServiceCutterContext getContext() {
+		return context;
+	}
+
+	/**
+	 * The matrix shares its layers with this session and therefore reflects
+	 * all edits applied afterwards.
+	 */
+	public ScoreMatrix getScoreMatrix() {
+		return new ScoreMatrix(registry, layers);
+	}
+
+	/**
+	 * Adds a use case (or latency critical use case) to the context.
+	 */
+	public void addUseCase(final CouplingInstance useCase) {
+		checkNanoentities(useCase);
+		context.addCouplingInstance(useCase);
+		instanceChanged(useCase, 1);
+	}
+
+	public void removeUseCase(final CouplingInstance useCase) {
+		if (context.removeCouplingInstance(useCase)) {
+			instanceChanged(useCase, -1);
+		}
+	}
+
+	/**
+	 * Adds a related group (e.g. an aggregate, a shared owner group or a
+	 * predefined service) to the context.
+	 */
+	public void addRelatedGroup(final CouplingInstance group) {
+		checkNanoentities(group);
+		context.addCouplingInstance(group);
+		instanceChanged(group, 1);
+	}
+
+	public void removeRelatedGroup(final CouplingInstance group) {
+		if (context.removeCouplingInstance(group)) {
+			instanceChanged(group, -1);
+		}
+	}
+
+	/**
+	 * Replaces the nanoentities of a related group which is part of the
+	 * context.
+	 */
+	public void updateRelatedGroup(final CouplingInstance group, final Collection<Nanoentity> nanoentities) {
+		if (CouplingType.COMPATIBILITY.equals(group.getCouplingCriterion().getType())) {
+			throw new IllegalArgumentException("Characteristics have to be changed with reassignCharacteristic.");
+		}
+		if (!InstanceType.RELATED_GROUP.equals(group.getType())) {
+			throw new IllegalArgumentException("Instance " + group.getName() + " is not a related group.");
+		}
+		nanoentities.forEach(this::getId);
+		if (isRescored(group)) {
+			group.setNanoentities(nanoentities);
+			rescore(group.getCouplingCriterion().getName());
+		} else {
+			instanceChanged(group, -1);
+			group.setNanoentities(nanoentities);
+			instanceChanged(group, 1);
+		}
+	}
+
+	/**
+	 * Moves the nanoentity to the given characteristic of a compatibility
+	 * criterion (e.g. from "Often" to "Rarely" of "Structural Volatility").
+	 */
+	public void reassignCharacteristic(final Nanoentity nanoentity, final CouplingCriterionCharacteristic characteristic) {
+		CouplingCriterion criterion = characteristic.getCouplingCriterion();
+		if (!CouplingType.COMPATIBILITY.equals(criterion.getType())) {
+			throw new IllegalArgumentException("Characteristic " + characteristic.getName() + " does not belong to a compatibility criterion.");
+		}
+		int id = getId(nanoentity);
+
+		CouplingInstance target = null;
+		for (CouplingInstance instance : context.getCouplingInstancesByCriterion(criterion.getName())) {
+			if (characteristic.equals(instance.getCharacteristic())) {
+				target = target != null ? target : instance;
+			} else if (instance.getNanoentities().contains(nanoentity)) {
+				List<Nanoentity> remaining = new ArrayList<>(instance.getNanoentities());
+				remaining.removeIf(nanoentity::equals);
+				instance.setNanoentities(remaining);
+			}
+		}
+		if (target == null) {
+			target = new CouplingInstance(characteristic, InstanceType.CHARACTERISTIC);
+			target.setName(characteristic.getName());
+			context.addCouplingInstance(target);
+		}
+		if (!target.getNanoentities().contains(nanoentity)) {
+			target.addNanoentity(nanoentity);
+		}
+
+		getCharacteristicLayer(criterion.getName()).setWeight(id, characteristic.getWeight());
+	}
+
+	private void initialize() {
+		for (String criterion : COHESIVE_CRITERIA) {
+			groupCounts.put(criterion, new PairScoreMap());
+			layers.put(criterion, new MutableScoreLayer());
+		}
+		layers.put(CouplingCriterion.SEMANTIC_PROXIMITY, semanticLayer);
+		for (Entry<String, ScoreLayer> layer : layers.entrySet()) {
+			if (isCompatibilityCriterion(layer.getKey())) {
+				layer.setValue(createCharacteristicLayer());
+			}
+		}
+
+		for (CouplingInstance instance : context.getCouplingInstances()) {
+			if (CouplingType.COMPATIBILITY.equals(instance.getCouplingCriterion().getType())) {
+				CharacteristicScoreLayer layer = getCharacteristicLayer(instance.getCouplingCriterion().getName());
+				for (Nanoentity nanoentity : instance.getNanoentities()) {
+					layer.setWeight(getId(nanoentity), instance.getCharacteristic().getWeight());
+				}
+			} else if (getCohesiveCriterion(instance) != null) {
+				updateGroupCounts(getCohesiveCriterion(instance), instance, 1);
+			} else if (CouplingCriterion.SEMANTIC_PROXIMITY.equals(instance.getCouplingCriterion().getName())) {
+				semanticScorer.forEachScore(instance, registry, (idA, idB, score) -> updateRawSemanticScore(EntityPairKey.of(idA, idB), score));
+			}
+		}
+		renormalizeSemanticScores();
+	}
+
+	private void instanceChanged(final CouplingInstance instance, final int sign) {
+		if (CouplingType.COMPATIBILITY.equals(instance.getCouplingCriterion().getType())) {
+			throw new IllegalArgumentException("Characteristics have to be changed with reassignCharacteristic.");
+		}
+		String cohesiveCriterion = getCohesiveCriterion(instance);
+		if (cohesiveCriterion != null) {
+			updateGroupCounts(cohesiveCriterion, instance, sign);
+		} else if (CouplingCriterion.SEMANTIC_PROXIMITY.equals(instance.getCouplingCriterion().getName())) {
+			updateSemanticScores(instance, sign);
+		} else {
+			rescore(instance.getCouplingCriterion().getName());
+		}
+	}
+
+	private void rescore(final String criterionName) {
+		ScoreLayer layer = scorer.getScoreLayer(criterionName);
+		if (layer != null) {
+			layers.put(criterionName, layer);
+		}
+	}
+
+	private boolean isRescored(final CouplingInstance instance) {
+		return getCohesiveCriterion(instance) == null && !CouplingCriterion.SEMANTIC_PROXIMITY.equals(instance.getCouplingCriterion().getName());
+	}
+
+	/**
+	 * @return the criterion the instance is scored for as cohesive group or
+	 *         null, if it is not scored as such
+	 */
+	private String getCohesiveCriterion(final CouplingInstance instance) {
+		if (InstanceType.LATENCY_USE_CASE.equals(instance.getType())) {
+			return CouplingCriterion.LATENCY;
+		}
+		String criterion = instance.getCouplingCriterion().getName();
+		return COHESIVE_CRITERIA.contains(criterion) && !CouplingCriterion.LATENCY.equals(criterion) ? criterion : null;
+	}
+
+	private void updateGroupCounts(final String criterion, final CouplingInstance group, final int sign) {
+		PairScoreMap counts = groupCounts.get(criterion);
+		MutableScoreLayer layer = (MutableScoreLayer) layers.get(criterion);
+		int[] ids = distinctIds(group.getAllNanoentities());
+		for (int i = 0; i < ids.length - 1; i++) {
+			for (int j = i + 1; j < ids.length; j++) {
+				long key = EntityPairKey.of(ids[i], ids[j]);
+				double count = counts.get(key) + sign;
+				if (count > 0d) {
+					counts.put(key, count);
+					layer.set(ids[i], ids[j], Scorer.MAX_SCORE);
+				} else {
+					counts.remove(key);
+					layer.set(ids[i], ids[j], Scorer.NO_SCORE);
+				}
+			}
+		}
+	}
+
+	private void updateSemanticScores(final CouplingInstance instance, final int sign) {
+		PairScoreMap changedPairs = new PairScoreMap();
+		semanticScorer.forEachScore(instance, registry, (idA, idB, score) -> {
+			long key = EntityPairKey.of(idA, idB);
+			updateRawSemanticScore(key, sign * score);
+			changedPairs.put(key, 0d);
+		});
+		if (getSemanticDivisor() != semanticDivisor) {
+			renormalizeSemanticScores();
+		} else {
+			changedPairs.forEach((idA, idB, ignored) -> semanticLayer.set(idA, idB, normalizeSemanticScore(rawSemanticScores.get(idA, idB))));
+		}
+	}
+
+	private void updateRawSemanticScore(final long key, final double delta) {
+		double newScore = rawSemanticScores.addTo(key, delta);
+		double oldScore = newScore - delta;
+		if (oldScore != 0d) {
+			rawSemanticScoreCounts.computeIfPresent(oldScore, (score, count) -> count > 1 ? count - 1 : null);
+		}
+		if (newScore != 0d) {
+			rawSemanticScoreCounts.merge(newScore, 1, Integer::sum);
+		} else {
+			rawSemanticScores.remove(key);
+		}
+	}
+
+	/**
+	 * Same normalization as
+	 * {@link SemanticProximityCriterionScorer#getScores(java.util.Collection, NanoentityRegistry)},
+	 * but the reference value is looked up in the score counts instead of
+	 * sorting all scores.
+	 */
+	private double getSemanticDivisor() {
+		int rank = SemanticProximityCriterionScorer.getReferenceRank(rawSemanticScores.size());
+		int seen = 0;
+		for (Entry<Double, Integer> scoreCount : rawSemanticScoreCounts.descendingMap().entrySet()) {
+			seen += scoreCount.getValue();
+			if (seen >= rank) {
+				return scoreCount.getKey() / Scorer.MAX_SCORE;
+			}
+		}
+		return 0d;
+	}
+
+	private void renormalizeSemanticScores() {
+		semanticDivisor = getSemanticDivisor();
+		semanticLayer.clear();
+		rawSemanticScores.forEach((idA, idB, score) -> semanticLayer.set(idA, idB, normalizeSemanticScore(score)));
+	}
+
+	private double normalizeSemanticScore(final double rawScore) {
+		return Math.min(Scorer.MAX_SCORE, rawScore / semanticDivisor);
+	}
+
+	private CharacteristicScoreLayer getCharacteristicLayer(final String criterion) {
+		ScoreLayer layer = layers.get(criterion);
+		if (layer != null) {
+			return (CharacteristicScoreLayer) layer;
+		}
+		// new criterion: the scorer puts the compatibility criteria first
+		CharacteristicScoreLayer newLayer = createCharacteristicLayer();
+		Map<String, ScoreLayer> others = new LinkedHashMap<>(layers);
+		layers.clear();
+		for (Entry<String, ScoreLayer> other : others.entrySet()) {
+			if (other.getValue() instanceof CharacteristicScoreLayer) {
+				layers.put(other.getKey(), other.getValue());
+			}
+		}
+		layers.put(criterion, newLayer);
+		others.forEach(layers::putIfAbsent);
+		return newLayer;
+	}
+
+	private CharacteristicScoreLayer createCharacteristicLayer() {
+		int[] weights = new int[nanoentityCount];
+		Arrays.fill(weights, CharacteristicScoreLayer.NO_WEIGHT);
+		return new CharacteristicScoreLayer(weights);
+	}
+
+	private boolean isMaintained(final String criterion) {
+		return COHESIVE_CRITERIA.contains(criterion) || CouplingCriterion.SEMANTIC_PROXIMITY.equals(criterion) || isCompatibilityCriterion(criterion);
+	}
+
+	private boolean isCompatibilityCriterion(final String criterion) {
+		CouplingCriterion couplingCriterion = context.getCriteriaCatalog().getCriterionByName(criterion);
+		return couplingCriterion != null && CouplingType.COMPATIBILITY.equals(couplingCriterion.getType());
+	}
+
+	private int[] distinctIds(final List<Nanoentity> nanoentities) {
+		BitSet ids = new BitSet(registry.size());
+		for (Nanoentity nanoentity : nanoentities) {
+			ids.set(registry.intern(nanoentity));
+		}
+		return ids.stream().toArray();
+	}
+
+	private void checkNanoentities(final CouplingInstance instance) {
+		instance.getAllNanoentities().forEach(this::getId);
+	}
+
+	private int getId(final Nanoentity nanoentity) {
+		int id = registry.getId(nanoentity);
+		if (id < 0 || id >= nanoentityCount) {
+			throw new IllegalArgumentException("Nanoentity " + nanoentity + " has not been part of the context when the session was created.");
+		}
+		return id;
+	}
+
+}
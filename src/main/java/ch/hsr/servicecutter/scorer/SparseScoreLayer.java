@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.EntityPairKey;
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+
+import java.util.Arrays;
+
+/**
+ * Stores the scored pairs in compressed sparse row (CSR) format: row a contains the pairs (a, b) with a &lt; b, sorted by
+ * b. Used for criteria which only score a small share of all pairs.
+ */
+public class SparseScoreLayer implements ScoreLayer {
+
+	private final int[] rowOffsets;
+	private final int[] columns;
+	private final double[] scores;
+
+	public SparseScoreLayer(final PairScoreMap pairScores, final int nanoentityCount) {
+		int size = pairScores.size();
+		long[] keys = new long[size];
+		double[] values = new double[size];
+		int[] next = { 0 };
+		pairScores.forEach((idA, idB, score) -> {
+			keys[next[0]] = EntityPairKey.of(idA, idB);
+			values[next[0]++] = score;
+		});
+
+		// two stable counting sorts (by column, then by row) order the pairs
+		// row by row with ascending columns
+		int[] byColumn = countingSort(keys, identity(size), nanoentityCount, false);
+		int[] order = countingSort(keys, byColumn, nanoentityCount, true);
+
+		this.rowOffsets = new int[nanoentityCount + 1];
+		this.columns = new int[size];
+		this.scores = new double[size];
+		for (int i = 0; i < size; i++) {
+			long key = keys[order[i]];
+			rowOffsets[EntityPairKey.first(key) + 1]++;
+			columns[i] = EntityPairKey.second(key);
+			scores[i] = values[order[i]];
+		}
+		for (int row = 0; row < nanoentityCount; row++) {
+			rowOffsets[row + 1] += rowOffsets[row];
+		}
+	}
+
+	@Override
+	public double get(final int idA, final int idB) {
+		int a = Math.min(idA, idB);
+		int b = Math.max(idA, idB);
+		if (a == b || a >= rowOffsets.length - 1) {
+			return 0d;
+		}
+		int index = Arrays.binarySearch(columns, rowOffsets[a], rowOffsets[a + 1], b);
+		return index >= 0 ? scores[index] : 0d;
+	}
+
+	@Override
+	public void forEach(final PairScoreConsumer consumer) {
+		for (int row = 0; row < rowOffsets.length - 1; row++) {
+			for (int i = rowOffsets[row]; i < rowOffsets[row + 1]; i++) {
+				consumer.accept(row, columns[i], scores[i]);
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return columns.length;
+	}
+
+	private static int[] identity(final int size) {
+		int[] result = new int[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = i;
+		}
+		return result;
+	}
+
+	private static int[] countingSort(final long[] keys, final int[] order, final int nanoentityCount, final boolean byRow) {
+		int[] counts = new int[nanoentityCount + 1];
+		for (int index : order) {
+			counts[id(keys[index], byRow) + 1]++;
+		}
+		for (int i = 0; i < nanoentityCount; i++) {
+			counts[i + 1] += counts[i];
+		}
+		int[] result = new int[order.length];
+		for (int index : order) {
+			result[counts[id(keys[index], byRow)]++] = index;
+		}
+		return result;
+	}
+
+	private static int id(final long key, final boolean row) {
+		return row ? EntityPairKey.first(key) : EntityPairKey.second(key);
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Graph of the nanoentity pairs with a positive weight, the sum of the prioritized scores of all criteria. These are
+ * the edges the solvers work on. The graph is immutable, so solvers running concurrently can share it.
+ */
+public final class WeightedGraph {
+
+	private final ScoreMatrix scores;
+	private final Map<String, Double> priorities;
+	private final int[] firstIds;
+	private final int[] secondIds;
+	private final double[] weights;
+
+	private WeightedGraph(final ScoreMatrix scores, final Map<String, Double> priorities, final PairScoreMap edges) {
+		this.scores = scores;
+		this.priorities = Collections.unmodifiableMap(priorities);
+		this.firstIds = new int[edges.size()];
+		this.secondIds = new int[edges.size()];
+		this.weights = new double[edges.size()];
+		int[] next = new int[1];
+		edges.forEach((idA, idB, weight) -> {
+			firstIds[next[0]] = idA;
+			secondIds[next[0]] = idB;
+			weights[next[0]++] = weight;
+		});
+	}
+
+	/**
+	 * Applies the priorities to the scores. The priorities are read once, so later changes of the configuration they
+	 * are taken from do not affect the graph.
+	 */
+	public static WeightedGraph of(final ScoreMatrix scores, final Function<String, Double> priorityProvider) {
+		Map<String, Double> priorities = new LinkedHashMap<>();
+		for (String criterion : scores.getCriteria()) {
+			priorities.put(criterion, priorityProvider.apply(criterion));
+		}
+		return new WeightedGraph(scores, priorities, scores.getPositiveWeightedScores(priorities::get));
+	}
+
+	public ScoreMatrix getScores() {
+		return scores;
+	}
+
+	public NanoentityRegistry getNanoentityRegistry() {
+		return scores.getNanoentityRegistry();
+	}
+
+	/**
+	 * @return the priorities the graph has been weighted with, per criterion of the scores
+	 */
+	public Map<String, Double> getPriorities() {
+		return priorities;
+	}
+
+	public int getEdgeCount() {
+		return weights.length;
+	}
+
+	/**
+	 * Passes every edge once, with the ids of the registry and its (positive) weight.
+	 */
+	public void forEachEdge(final PairScoreConsumer consumer) {
+		for (int i = 0; i < weights.length; i++) {
+			consumer.accept(firstIds[i], secondIds[i], weights[i]);
+		}
+	}
+
+}
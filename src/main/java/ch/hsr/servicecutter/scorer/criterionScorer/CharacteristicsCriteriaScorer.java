@@ -1,31 +1,35 @@
 package ch.hsr.servicecutter.scorer.criterionScorer;
 
-import ch.hsr.servicecutter.model.solver.EntityPair;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
-import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.CharacteristicScoreLayer;
+import ch.hsr.servicecutter.scorer.ScoreLayer;
 import com.google.common.collect.Lists;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
+import java.util.Map;
 
 public class CharacteristicsCriteriaScorer implements CriterionScorer {
 
-	public Map<String, Map<EntityPair, Double>> getScores(final Map<String, Set<CouplingInstance>> instancesByCriterion) {
-		Map<String, Map<EntityPair, Double>> result = new HashMap<>();
+	public Map<String, PairScoreMap> getScores(final Map<String, ? extends Collection<CouplingInstance>> instancesByCriterion, final NanoentityRegistry registry) {
+		Map<String, PairScoreMap> result = new HashMap<>();
 
 		// get all instances group by distance CC
-		for (Entry<String, Set<CouplingInstance>> instancesEntry : instancesByCriterion.entrySet()) {
-			result.put(instancesEntry.getKey(), getScores(instancesEntry.getValue()));
+		for (Entry<String, ? extends Collection<CouplingInstance>> instancesEntry : instancesByCriterion.entrySet()) {
+			result.put(instancesEntry.getKey(), getScores(instancesEntry.getValue(), registry));
 		}
 		return result;
 	}
 
 	@Override
-	public Map<EntityPair, Double> getScores(final Set<CouplingInstance> instances) {
-		Map<EntityPair, Double> resultPerCC = new HashMap<>();
+	public PairScoreMap getScores(final Collection<CouplingInstance> instances, final NanoentityRegistry registry) {
+		PairScoreMap resultPerCC = new PairScoreMap();
 		// compare all characteristics with each other
 		List<CouplingInstance> characteristics = Lists.newArrayList(instances);
 
@@ -35,11 +39,13 @@ public class CharacteristicsCriteriaScorer implements CriterionScorer {
 				// calculate the distance
 				CouplingInstance characteristicI = characteristics.get(i);
 				CouplingInstance characteristicJ = characteristics.get(j);
-				for (Nanoentity nanoentityFromI : characteristicI.getAllNanoentities()) {
-					for (Nanoentity nanoentityFromJ : characteristicJ.getAllNanoentities()) {
+				int[] nanoentitiesFromI = registry.intern(characteristicI.getAllNanoentities());
+				int[] nanoentitiesFromJ = registry.intern(characteristicJ.getAllNanoentities());
+				for (int nanoentityFromI : nanoentitiesFromI) {
+					for (int nanoentityFromJ : nanoentitiesFromJ) {
 						int distance = Math.abs(characteristicI.getCharacteristic().getWeight() - characteristicJ.getCharacteristic().getWeight());
 						if (distance != 0) {
-							resultPerCC.put(new EntityPair(nanoentityFromI, nanoentityFromJ), distance * -1d);
+							resultPerCC.put(nanoentityFromI, nanoentityFromJ, distance * -1d);
 						}
 
 					}
@@ -49,4 +55,31 @@ public class CharacteristicsCriteriaScorer implements CriterionScorer {
 		return resultPerCC;
 	}
 
+	/**
+	 * As all nanoentities of a characteristic share its weight, only the
+	 * weight per nanoentity is stored. Nanoentities with several conflicting
+	 * characteristics are scored depending on the order of the instances, so
+	 * the scores are materialized for them.
+	 */
+	@Override
+	public ScoreLayer getScoreLayer(final Collection<CouplingInstance> instances, final NanoentityRegistry registry) {
+		List<int[]> nanoentitiesPerCharacteristic = new ArrayList<>(instances.size());
+		for (CouplingInstance instance : instances) {
+			nanoentitiesPerCharacteristic.add(registry.intern(instance.getAllNanoentities()));
+		}
+		int[] weights = new int[registry.size()];
+		Arrays.fill(weights, CharacteristicScoreLayer.NO_WEIGHT);
+		int index = 0;
+		for (CouplingInstance instance : instances) {
+			int weight = instance.getCharacteristic().getWeight();
+			for (int nanoentity : nanoentitiesPerCharacteristic.get(index++)) {
+				if (weights[nanoentity] != CharacteristicScoreLayer.NO_WEIGHT && weights[nanoentity] != weight) {
+					return CriterionScorer.super.getScoreLayer(instances, registry);
+				}
+				weights[nanoentity] = weight;
+			}
+		}
+		return new CharacteristicScoreLayer(weights);
+	}
+
 }
@@ -1,12 +1,33 @@
 package ch.hsr.servicecutter.scorer.criterionScorer;
 
+import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
 
 import ch.hsr.servicecutter.model.solver.EntityPair;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.ScoreLayer;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
 
 public interface CriterionScorer {
 
-	public Map<EntityPair, Double> getScores(final Set<CouplingInstance> instances);
+	/**
+	 * Calculates the scores keyed by the ids the registry assigns to the
+	 * nanoentities.
+	 */
+	public PairScoreMap getScores(final Collection<CouplingInstance> instances, final NanoentityRegistry registry);
+
+	/**
+	 * Calculates the scores as layer of the score matrix. By default, one
+	 * score per pair is stored; scorers may provide a more compact layer.
+	 */
+	public default ScoreLayer getScoreLayer(final Collection<CouplingInstance> instances, final NanoentityRegistry registry) {
+		return ScoreMatrix.createLayer(getScores(instances, registry), registry);
+	}
+
+	public default Map<EntityPair, Double> getScores(final Collection<CouplingInstance> instances) {
+		NanoentityRegistry registry = new NanoentityRegistry();
+		return getScores(instances, registry).toEntityPairMap(registry);
+	}
 }
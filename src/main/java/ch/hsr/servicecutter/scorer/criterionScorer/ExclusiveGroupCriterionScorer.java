@@ -1,14 +1,14 @@
 package ch.hsr.servicecutter.scorer.criterionScorer;
 
-import java.util.Set;
+import java.util.Collection;
 
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
 import ch.hsr.servicecutter.scorer.Scorer;
 
 public class ExclusiveGroupCriterionScorer extends RelatedGroupCriteriaScorer {
 
-	public ExclusiveGroupCriterionScorer(final Set<Nanoentity> set) {
-		super(Scorer.MIN_SCORE, Scorer.MAX_SCORE, set);
+	public ExclusiveGroupCriterionScorer(final Collection<Nanoentity> allNanoentities) {
+		super(Scorer.MIN_SCORE, Scorer.MAX_SCORE, allNanoentities);
 	}
 
 }
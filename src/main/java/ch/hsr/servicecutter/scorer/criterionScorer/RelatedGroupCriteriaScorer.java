@@ -1,15 +1,19 @@
 package ch.hsr.servicecutter.scorer.criterionScorer;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import ch.hsr.servicecutter.model.solver.EntityPair;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.ExclusiveGroupScoreLayer;
+import ch.hsr.servicecutter.scorer.GroupScoreLayer;
+import ch.hsr.servicecutter.scorer.ScoreLayer;
 
 public class RelatedGroupCriteriaScorer implements CriterionScorer {
 
@@ -44,37 +48,78 @@ public class RelatedGroupCriteriaScorer implements CriterionScorer {
 	}
 
 	@Override
-	public Map<EntityPair, Double> getScores(final Set<CouplingInstance> instances) {
-		Map<EntityPair, Double> result = new HashMap<>();
+	public PairScoreMap getScores(final Collection<CouplingInstance> instances, final NanoentityRegistry registry) {
+		PairScoreMap result = new PairScoreMap();
+		int[] allIds = null;
+		if (penalty != 0 && penaltyToAll) {
+			allIds = internAll(allNanoentities, registry);
+		} else if (penalty != 0 && penaltyToOtherGroups) {
+			allIds = internAll(instances.stream().flatMap(i -> i.getAllNanoentities().stream()).collect(Collectors.toList()), registry);
+		}
 		for (CouplingInstance instance : instances) {
+			int[] groupIds = registry.intern(instance.getAllNanoentities());
 			// add Premium to nanoentities in same group
 			if (premium != 0d) {
-				for (int i = 0; i < instance.getAllNanoentities().size() - 1; i++) {
-					for (int j = i + 1; j < instance.getAllNanoentities().size(); j++) {
-						result.put(new EntityPair(instance.getAllNanoentities().get(i), instance.getAllNanoentities().get(j)), premium);
+				for (int i = 0; i < groupIds.length - 1; i++) {
+					for (int j = i + 1; j < groupIds.length; j++) {
+						result.put(groupIds[i], groupIds[j], premium);
 					}
 				}
 			}
-			if (penalty != 0 && penaltyToAll) {
-				setPenaltyToOtherFields(result, instance, allNanoentities);
-			}
-
-			if (penalty != 0 && penaltyToOtherGroups) {
-				List<Nanoentity> allNanoentitiesInInstances = instances.stream().flatMap(i -> i.getAllNanoentities().stream()).collect(Collectors.toList());
-				setPenaltyToOtherFields(result, instance, allNanoentitiesInInstances);
+			if (allIds != null) {
+				setPenaltyToOtherFields(result, groupIds, allIds);
 			}
 		}
 		return result;
 	}
 
-	private void setPenaltyToOtherFields(final Map<EntityPair, Double> result, final CouplingInstance instance, final Iterable<Nanoentity> otherNanoentities) {
-		for (Nanoentity groupEntity : instance.getAllNanoentities()) {
-			for (Nanoentity otherEntity : otherNanoentities) {
-				if (!instance.getAllNanoentities().contains(otherEntity)) {
-					result.put(new EntityPair(groupEntity, otherEntity), penalty);
+	/**
+	 * Groups without penalty (cohesive groups) are stored as group
+	 * memberships instead of one premium per pair, exclusive groups with
+	 * penalty to all nanoentities as the last group of every nanoentity.
+	 */
+	@Override
+	public ScoreLayer getScoreLayer(final Collection<CouplingInstance> instances, final NanoentityRegistry registry) {
+		if (penalty != 0d && !(penaltyToAll && premium != 0d)) {
+			return CriterionScorer.super.getScoreLayer(instances, registry);
+		}
+		List<int[]> groups = new ArrayList<>(instances.size());
+		for (CouplingInstance instance : instances) {
+			groups.add(registry.intern(instance.getAllNanoentities()));
+		}
+		if (penalty == 0d) {
+			return new GroupScoreLayer(premium, groups, registry.size());
+		}
+		// the implied penalties only match the materialized ones, if they
+		// are given to every nanoentity
+		BitSet allIds = new BitSet(registry.size());
+		for (int id : internAll(allNanoentities, registry)) {
+			allIds.set(id);
+		}
+		if (allIds.cardinality() != registry.size()) {
+			return CriterionScorer.super.getScoreLayer(instances, registry);
+		}
+		return new ExclusiveGroupScoreLayer(premium, penalty, groups, registry.size());
+	}
+
+	private void setPenaltyToOtherFields(final PairScoreMap result, final int[] groupIds, final int[] otherIds) {
+		BitSet group = new BitSet();
+		for (int id : groupIds) {
+			group.set(id);
+		}
+		for (int groupId : groupIds) {
+			for (int otherId : otherIds) {
+				if (!group.get(otherId)) {
+					result.put(groupId, otherId, penalty);
 				}
 			}
 		}
 	}
 
+	private int[] internAll(final Iterable<Nanoentity> nanoentities, final NanoentityRegistry registry) {
+		List<Nanoentity> list = new ArrayList<>();
+		nanoentities.forEach(list::add);
+		return registry.intern(list);
+	}
+
 }
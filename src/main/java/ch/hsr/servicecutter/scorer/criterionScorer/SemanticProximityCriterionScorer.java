@@ -1,19 +1,18 @@
 package ch.hsr.servicecutter.scorer.criterionScorer;
 
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import ch.hsr.servicecutter.model.solver.EntityPair;
+import ch.hsr.servicecutter.model.solver.PairScoreConsumer;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
 import ch.hsr.servicecutter.model.usersystem.InstanceType;
-import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
 import ch.hsr.servicecutter.scorer.Scorer;
 
 public class SemanticProximityCriterionScorer implements CriterionScorer {
-	Map<EntityPair, Double> result = new HashMap<>();
+	PairScoreMap result = new PairScoreMap();
 	private static final int SCORE_WRITE = 10;
 	private static final int SCORE_READ = 3;
 	// MIXED=reads for two nanoentities of which one is read and the other
@@ -22,27 +21,45 @@ public class SemanticProximityCriterionScorer implements CriterionScorer {
 	private static final int SCORE_AGGREGATION = 1;
 
 	@Override
-	public Map<EntityPair, Double> getScores(final Set<CouplingInstance> instances) {
-		Set<CouplingInstance> useCaseInstances = instances;
-		useCaseInstances = instances.stream().filter(instance -> instance.getType().equals(InstanceType.USE_CASE)).collect(Collectors.toSet());
-		for (CouplingInstance instance : useCaseInstances) {
-			List<Nanoentity> nanoentitiesWritten = instance.getSecondNanoentities();
-			List<Nanoentity> nanoentitiesRead = instance.getNanoentities();
-			addScoreForWriteAccess(nanoentitiesWritten);
-			addScoreForReadAccess(nanoentitiesRead);
-			addScoreForMixedAccess(nanoentitiesWritten, nanoentitiesRead);
+	public PairScoreMap getScores(final Collection<CouplingInstance> instances, final NanoentityRegistry registry) {
+		for (CouplingInstance instance : instances) {
+			forEachScore(instance, registry, this::addToResult);
 		}
+		normalizeResult(result);
+		return result;
+	}
 
-		List<CouplingInstance> aggregationInstances = instances.stream().filter(instance -> instance.getType().equals(InstanceType.AGGREGATION)).collect(Collectors.toList());
-		for (CouplingInstance aggregationInstance : aggregationInstances) {
-			for (Nanoentity nanoentityA : aggregationInstance.getAllNanoentities()) {
-				for (Nanoentity nanoentityB : aggregationInstance.getAllNanoentities()) {
-					addToResult(nanoentityA, nanoentityB, SCORE_AGGREGATION);
+	/**
+	 * Emits the raw (not normalized) scores a single use case or aggregation
+	 * contributes. Scores of several instances are summed up per pair.
+	 * Instances of other types do not contribute.
+	 */
+	public void forEachScore(final CouplingInstance instance, final NanoentityRegistry registry, final PairScoreConsumer consumer) {
+		if (InstanceType.USE_CASE.equals(instance.getType())) {
+			int[] nanoentitiesWritten = registry.intern(instance.getSecondNanoentities());
+			int[] nanoentitiesRead = registry.intern(instance.getNanoentities());
+			addScoreForWriteAccess(nanoentitiesWritten, consumer);
+			addScoreForReadAccess(nanoentitiesRead, consumer);
+			addScoreForMixedAccess(nanoentitiesWritten, nanoentitiesRead, consumer);
+		} else if (InstanceType.AGGREGATION.equals(instance.getType())) {
+			// every pair is scored once per order and every nanoentity once
+			// with itself
+			int[] nanoentities = registry.intern(instance.getAllNanoentities());
+			for (int i = 0; i < nanoentities.length; i++) {
+				consumer.accept(nanoentities[i], nanoentities[i], SCORE_AGGREGATION);
+				for (int j = i + 1; j < nanoentities.length; j++) {
+					consumer.accept(nanoentities[i], nanoentities[j], 2 * SCORE_AGGREGATION);
 				}
 			}
 		}
-		normalizeResult(result);
-		return result;
+	}
+
+	/**
+	 * @return the rank (counted from the highest score) of the reference
+	 *         value, which is normalized to {@link Scorer#MAX_SCORE}
+	 */
+	public static int getReferenceRank(final int numberOfScores) {
+		return Math.max(1, (int) (numberOfScores * 0.1d));
 	}
 
 	/*
@@ -53,57 +70,109 @@ public class SemanticProximityCriterionScorer implements CriterionScorer {
 	 * between 0 and 10
 	 */
 
+	void normalizeResult(final PairScoreMap result) {
+		if (result.isEmpty()) {
+			return;
+		}
+		double divisor = getDivisor(result.values());
+		result.replaceAll(score -> Math.min(Scorer.MAX_SCORE, score / divisor));
+	}
+
 	void normalizeResult(final Map<EntityPair, Double> result) {
-		// scores in reversed order
-		List<Double> scores = result.values().stream().sorted((d1, d2) -> Double.compare(d2, d1)).collect(Collectors.toList());
-		if (scores.isEmpty()) {
+		if (result.isEmpty()) {
 			return;
 		}
-		int tenPercent = Math.max(1, (int) (scores.size() * 0.1d));
-		double referenceValue = scores.get(tenPercent - 1);
-		double divisor = referenceValue / Scorer.MAX_SCORE;
+		double divisor = getDivisor(result.values().stream().mapToDouble(Double::doubleValue).toArray());
 		for (EntityPair key : result.keySet()) {
 			double newScore = Math.min(Scorer.MAX_SCORE, result.get(key) / divisor);
 			result.put(key, newScore);
 		}
 	}
 
+	private double getDivisor(final double[] scores) {
+		// position in ascending order, so the reference value is counted from
+		// the end
+		double referenceValue = select(scores, scores.length - getReferenceRank(scores.length));
+		return referenceValue / Scorer.MAX_SCORE;
+	}
+
+	/**
+	 * Quickselect: returns the value at the given position of the values in
+	 * ascending order in expected linear time, instead of sorting them. The
+	 * values are reordered. Uses a three-way partition, as the (integral) raw
+	 * scores contain many equal values.
+	 */
+	static double select(final double[] values, final int position) {
+		int left = 0;
+		int right = values.length - 1;
+		while (left < right) {
+			double pivot = medianOfThree(values[left], values[(left + right) >>> 1], values[right]);
+			// partition into [left, lower) < pivot, [lower, upper] == pivot
+			// and (upper, right] > pivot
+			int lower = left;
+			int upper = right;
+			int i = left;
+			while (i <= upper) {
+				if (values[i] < pivot) {
+					swap(values, lower++, i++);
+				} else if (values[i] > pivot) {
+					swap(values, i, upper--);
+				} else {
+					i++;
+				}
+			}
+			if (position < lower) {
+				right = lower - 1;
+			} else if (position > upper) {
+				left = upper + 1;
+			} else {
+				return pivot;
+			}
+		}
+		return values[position];
+	}
+
+	private static double medianOfThree(final double a, final double b, final double c) {
+		return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+	}
+
+	private static void swap(final double[] values, final int i, final int j) {
+		double value = values[i];
+		values[i] = values[j];
+		values[j] = value;
+	}
+
 	/**
 	 * Nanoentities read and written in same Use Case
 	 * 
 	 * @param frequency
 	 */
-	private void addScoreForMixedAccess(final List<Nanoentity> nanoentitiesWritten, final List<Nanoentity> nanoentitiesRead) {
-		for (Nanoentity nanoentityWritten : nanoentitiesWritten) {
-			for (Nanoentity nanoentityRead : nanoentitiesRead) {
-				addToResult(nanoentityRead, nanoentityWritten, SCORE_MIXED);
+	private void addScoreForMixedAccess(final int[] nanoentitiesWritten, final int[] nanoentitiesRead, final PairScoreConsumer consumer) {
+		for (int nanoentityWritten : nanoentitiesWritten) {
+			for (int nanoentityRead : nanoentitiesRead) {
+				consumer.accept(nanoentityRead, nanoentityWritten, SCORE_MIXED);
 			}
 		}
 	}
 
-	private void addScoreForReadAccess(final List<Nanoentity> nanoentitiesRead) {
-		for (int i = 0; i < nanoentitiesRead.size() - 1; i++) {
-			for (int j = i + 1; j < nanoentitiesRead.size(); j++) {
-				addToResult(nanoentitiesRead.get(i), nanoentitiesRead.get(j), SCORE_READ);
+	private void addScoreForReadAccess(final int[] nanoentitiesRead, final PairScoreConsumer consumer) {
+		for (int i = 0; i < nanoentitiesRead.length - 1; i++) {
+			for (int j = i + 1; j < nanoentitiesRead.length; j++) {
+				consumer.accept(nanoentitiesRead[i], nanoentitiesRead[j], SCORE_READ);
 			}
 		}
 	}
 
-	private void addScoreForWriteAccess(final List<Nanoentity> nanoentitiesWritten) {
-		for (int i = 0; i < nanoentitiesWritten.size() - 1; i++) {
-			for (int j = i + 1; j < nanoentitiesWritten.size(); j++) {
-				addToResult(nanoentitiesWritten.get(i), nanoentitiesWritten.get(j), SCORE_WRITE);
+	private void addScoreForWriteAccess(final int[] nanoentitiesWritten, final PairScoreConsumer consumer) {
+		for (int i = 0; i < nanoentitiesWritten.length - 1; i++) {
+			for (int j = i + 1; j < nanoentitiesWritten.length; j++) {
+				consumer.accept(nanoentitiesWritten[i], nanoentitiesWritten[j], SCORE_WRITE);
 			}
 		}
 	}
 
-	private void addToResult(final Nanoentity nanoentityA, final Nanoentity nanoentityB, final double score) {
-		EntityPair fieldTuple = new EntityPair(nanoentityA, nanoentityB);
-		if (result.get(fieldTuple) == null) {
-			result.put(fieldTuple, score);
-		} else {
-			result.put(fieldTuple, score + result.get(fieldTuple));
-		}
+	private void addToResult(final int nanoentityA, final int nanoentityB, final double score) {
+		result.addTo(nanoentityA, nanoentityB, score);
 	}
 
 }
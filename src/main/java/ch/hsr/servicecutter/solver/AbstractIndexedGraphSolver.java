@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.model.Service;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class for solvers working on primitive arrays. The nodes are identified by their index (in the order they are
+ * created) and the edges are kept as arrays of node indexes and weights.
+ */
+public abstract class AbstractIndexedGraphSolver extends AbstractSolver<Integer> {
+
+    private final List<String> nodeNames = new ArrayList<>();
+    private final Map<String, Integer> nodesByName = new HashMap<>();
+    private int[] firstNodes = new int[16];
+    private int[] secondNodes = new int[16];
+    private double[] weights = new double[16];
+    private int edgeCount;
+
+    public AbstractIndexedGraphSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config) {
+        super(context, weightedGraph, config);
+
+        buildNodes();
+        buildEdges();
+    }
+
+    @Override
+    protected void createNode(String name) {
+        nodesByName.put(name, nodeNames.size());
+        nodeNames.add(name);
+    }
+
+    @Override
+    protected Integer getNode(String name) {
+        return nodesByName.get(name);
+    }
+
+    @Override
+    protected void createEdge(Integer first, Integer second, double weight) {
+        if (edgeCount == weights.length) {
+            firstNodes = Arrays.copyOf(firstNodes, edgeCount << 1);
+            secondNodes = Arrays.copyOf(secondNodes, edgeCount << 1);
+            weights = Arrays.copyOf(weights, edgeCount << 1);
+        }
+        firstNodes[edgeCount] = first;
+        secondNodes[edgeCount] = second;
+        weights[edgeCount++] = weight;
+    }
+
+    protected int getNodeCount() {
+        return nodeNames.size();
+    }
+
+    protected int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @return the first node of every edge; only the first {@link #getEdgeCount()} entries are valid
+     */
+    protected int[] getFirstNodes() {
+        return firstNodes;
+    }
+
+    /**
+     * @return the second node of every edge; only the first {@link #getEdgeCount()} entries are valid
+     */
+    protected int[] getSecondNodes() {
+        return secondNodes;
+    }
+
+    /**
+     * @return the weight of every edge; only the first {@link #getEdgeCount()} entries are valid
+     */
+    protected double[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * Creates one service per cluster of node indexes.
+     */
+    protected SolverResult createResult(List<int[]> clusters) {
+        Set<Service> services = new HashSet<>();
+        char id = 'A';
+        for (int[] cluster : clusters) {
+            List<String> nanoentities = new LinkedList<>();
+            for (int node : cluster) {
+                nanoentities.add(nodeNames.get(node));
+            }
+            Service service = new Service();
+            service.setId(id);
+            service.setNanoentities(nanoentities);
+            services.add(service);
+            id = generateNextServiceId(id);
+        }
+        SolverResult result = new SolverResult();
+        result.setServices(services);
+        return result;
+    }
+
+}
@@ -1,16 +1,16 @@
 package ch.hsr.servicecutter.solver;
 
 import ch.hsr.servicecutter.api.ServiceCutterContext;
-import ch.hsr.servicecutter.model.solver.EntityPair;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
-import ch.hsr.servicecutter.scorer.Score;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Implement this class to support an algorithm in the Service Cutter.
@@ -19,21 +19,37 @@ import java.util.Map.Entry;
  * 
  * @param <N>
  *            the class for a Node
- * @param <E>
- *            the class for an Edge
  */
-public abstract class AbstractSolver<N, E> implements Solver {
+public abstract class AbstractSolver<N> implements Solver {
 
 	private ServiceCutterContext context;
 	private final Logger log = LoggerFactory.getLogger(AbstractSolver.class);
-	private Map<EntityPair, Map<String, Score>> scores;
+	private WeightedGraph weightedGraph;
+	private ScoreTraceListener scoreTraceListener;
 
-	public AbstractSolver(final ServiceCutterContext context, final Map<EntityPair, Map<String, Score>> scores) {
+	public AbstractSolver(final ServiceCutterContext context, final ScoreMatrix scores, final SolverConfiguration config) {
+		this(context, weightScores(scores, config), config);
+	}
+
+	/**
+	 * @param graph
+	 *            the weighted graph of the scores, which may be shared with
+	 *            other solvers
+	 */
+	public AbstractSolver(final ServiceCutterContext context, final WeightedGraph graph, final SolverConfiguration config) {
 		this.context = context;
-		this.scores = scores;
+		this.weightedGraph = graph;
+		this.scoreTraceListener = config.getScoreTraceListener();
 		log.info("Created solver of type {}", getClass());
 	}
 
+	/**
+	 * Applies the priorities of the configuration to the scores.
+	 */
+	public static WeightedGraph weightScores(final ScoreMatrix scores, final SolverConfiguration config) {
+		return WeightedGraph.of(scores, criterion -> config.getPriorityForCouplingCriterion(criterion).toValue());
+	}
+
 	/**
 	 * Create a new node on the graph
 	 * 
@@ -63,57 +79,18 @@ public abstract class AbstractSolver<N, E> implements Solver {
 	protected abstract N getNode(String name);
 
 	/**
-	 * Create a new edge and set a weight on it
+	 * Create a new edge between two nodes of the graph. Called once per pair
+	 * of nanoentities and only for positive weights, so implementations
+	 * neither need to look up existing edges nor remove edges afterwards.
 	 * 
 	 * @param first
-	 *            the first side of the edge
+	 *            the node of the first nanoentity
 	 * @param second
-	 *            the second side of the edge
+	 *            the node of the second nanoentity
 	 * @param weight
 	 *            a weight that is used to persist the score
 	 */
-	protected abstract void createEdgeAndSetWeight(Nanoentity first, Nanoentity second, double weight);
-
-	/**
-	 * Remove an edge from the graph
-	 * 
-	 * @param edge
-	 *            the edge to be removed
-	 */
-	protected abstract void removeEdge(E edge);
-
-	/**
-	 * Get an existing edge from the graph
-	 * 
-	 * @param first
-	 *            the first side of the edge
-	 * @param second
-	 *            the second side of the edge
-	 * @return the edge
-	 */
-	protected abstract E getEdge(final Nanoentity first, final Nanoentity second);
-
-	/**
-	 * @return all edges in the graph
-	 */
-	protected abstract Iterable<E> getEdges();
-
-	/**
-	 * @param edge
-	 * @return the weight representing the score
-	 */
-	protected abstract double getWeight(E edge);
-
-	/**
-	 * Set a weight representing the score
-	 * 
-	 * @see #getWeight(Object)
-	 * @see #createEdgeAndSetWeight(Nanoentity, Nanoentity, double)
-	 * @param edge
-	 * @param weight
-	 *            weight representing the score
-	 */
-	protected abstract void setWeight(E edge, double weight);
+	protected abstract void createEdge(N first, N second, double weight);
 
 	protected void buildNodes() {
 		// create nodes
@@ -123,51 +100,47 @@ public abstract class AbstractSolver<N, E> implements Solver {
 	}
 
 	protected void buildEdges() {
-		for (Entry<EntityPair, Map<String, Score>> entry : scores.entrySet()) {
-			setWeight(entry.getKey().nanoentityA, entry.getKey().nanoentityB, entry.getValue().values().stream().mapToDouble(Score::getPrioritizedScore).sum());
-			// Logging
-			log.info("Score for nanoentity tuple {}", entry.getKey());
-			for (Entry<String, Score> criteriaScores : entry.getValue().entrySet()) {
-				log.info("{}: {} with priority {} results in {}", criteriaScores.getKey(), criteriaScores.getValue().getScore(), criteriaScores.getValue().getPriority(),
-						criteriaScores.getValue().getPrioritizedScore());
+		NanoentityRegistry registry = weightedGraph.getNanoentityRegistry();
+		// the weighted graph only contains positive weights, so every pair
+		// becomes an edge; nodes are looked up once per nanoentity
+		List<N> nodes = new ArrayList<>(Collections.nCopies(registry.size(), null));
+		weightedGraph.forEachEdge((idA, idB, weight) -> {
+			createEdge(getNode(nodes, registry, idA), getNode(nodes, registry, idB), weight);
+			if (scoreTraceListener != null) {
+				traceScores(idA, idB, registry.getNanoentity(idA), registry.getNanoentity(idB), weight);
 			}
-			log.info("---------------------------------------------------");
-		}
-
-		deleteNegativeEdges();
+		});
+		log.info("Created {} edges", weightedGraph.getEdgeCount());
 	}
 
-	protected String createNodeIdentifier(final Nanoentity nanoentity) {
-		return nanoentity.getContextName();
-	}
-
-	private void deleteNegativeEdges() {
-		List<E> edgesToRemove = new ArrayList<>();
-
-		for (E edge : getEdges()) {
-			if (getWeight(edge) <= 0) {
-				edgesToRemove.add(edge);
+	private N getNode(final List<N> nodes, final NanoentityRegistry registry, final int id) {
+		N node = nodes.get(id);
+		if (node == null) {
+			node = getNode(registry.getNanoentity(id));
+			if (node == null) {
+				throw new IllegalStateException("No node found for nanoentity " + registry.getNanoentity(id).getContextName());
 			}
+			nodes.set(id, node);
 		}
-		log.info("Deleting {} edges with zero or negative weight", edgesToRemove.size());
-		for (E edge : edgesToRemove) {
-			removeEdge(edge);
-
-		}
+		return node;
 	}
 
-	protected void setWeight(final Nanoentity first, final Nanoentity second, final double weight) {
-		N nodeA = getNode(first);
-		N nodeB = getNode(second);
-		E existingEdge = getEdge(first, second);
-		if (existingEdge != null) {
-			log.info("add {} to weight of edge from node {} to {}", weight, nodeA, nodeB);
-			setWeight(existingEdge, weight);
-		} else {
-			log.info("create edge with weight {} from node {} to {}", weight, nodeA, nodeB);
-			createEdgeAndSetWeight(first, second, weight);
+	private void traceScores(final int idA, final int idB, final Nanoentity first, final Nanoentity second, final double weight) {
+		if (!scoreTraceListener.isTraced(first, second)) {
+			return;
 		}
+		ScoreMatrix scores = weightedGraph.getScores();
+		for (String criterion : scores.getCriteria()) {
+			double score = scores.getScore(criterion, idA, idB);
+			if (score != 0d) {
+				scoreTraceListener.criterionScored(first, second, criterion, score, weightedGraph.getPriorities().get(criterion));
+			}
+		}
+		scoreTraceListener.edgeCreated(first, second, weight);
+	}
 
+	protected String createNodeIdentifier(final Nanoentity nanoentity) {
+		return nanoentity.getContextName();
 	}
 
 	protected char generateNextServiceId(char currentId) {
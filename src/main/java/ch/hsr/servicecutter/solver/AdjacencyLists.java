@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Adjacency lists of an undirected graph in compressed form: the neighbors of a node are stored in the range from
+ * {@code starts[node]} to {@code starts[node + 1]} of the neighbor and weight arrays.
+ */
+final class AdjacencyLists {
+
+    final int[] starts;
+    final int[] neighbors;
+    final double[] weights;
+
+    /**
+     * @param nodeCount the number of nodes; nodes are identified by their index
+     * @param edgeCount the number of (undirected) edges, given by the first edgeCount entries of the arrays
+     */
+    AdjacencyLists(int nodeCount, int[] firstNodes, int[] secondNodes, double[] edgeWeights, int edgeCount) {
+        this.starts = new int[nodeCount + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            starts[firstNodes[i] + 1]++;
+            starts[secondNodes[i] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            starts[node + 1] += starts[node];
+        }
+        this.neighbors = new int[starts[nodeCount]];
+        this.weights = new double[starts[nodeCount]];
+        int[] next = Arrays.copyOf(starts, nodeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            neighbors[next[firstNodes[i]]] = secondNodes[i];
+            weights[next[firstNodes[i]]++] = edgeWeights[i];
+            neighbors[next[secondNodes[i]]] = firstNodes[i];
+            weights[next[secondNodes[i]]++] = edgeWeights[i];
+        }
+    }
+
+    int getNodeCount() {
+        return starts.length - 1;
+    }
+
+    int getDegree(int node) {
+        return starts[node + 1] - starts[node];
+    }
+
+    /**
+     * @param labels the label of every node; labels are node indexes as well
+     * @return one sorted array of node indexes per label, in the order of their first node
+     */
+    static List<int[]> groupByLabel(int[] labels) {
+        int nodeCount = labels.length;
+        int[] clusterOfLabel = new int[nodeCount];
+        Arrays.fill(clusterOfLabel, -1);
+        int[] clusterSizes = new int[nodeCount];
+        int clusterCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            if (clusterOfLabel[labels[node]] < 0) {
+                clusterOfLabel[labels[node]] = clusterCount++;
+            }
+            clusterSizes[clusterOfLabel[labels[node]]]++;
+        }
+        List<int[]> clusters = new ArrayList<>(clusterCount);
+        for (int cluster = 0; cluster < clusterCount; cluster++) {
+            clusters.add(new int[clusterSizes[cluster]]);
+        }
+        int[] next = new int[clusterCount];
+        for (int node = 0; node < nodeCount; node++) {
+            int cluster = clusterOfLabel[labels[node]];
+            clusters.get(cluster)[next[cluster]++] = node;
+        }
+        return clusters;
+    }
+
+}
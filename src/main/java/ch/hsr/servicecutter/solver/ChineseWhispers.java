@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Chinese Whispers (label propagation) on primitive adjacency arrays.
+ * <p>
+ * Every node starts with a label of its own. In every iteration, the nodes are visited in random order and take the
+ * label with the highest score among their neighbors (ties are broken randomly). The iteration stops when the share
+ * of changed labels does not exceed the convergence threshold (0 by default, i.e. no label changed) or after the
+ * maximum number of iterations.
+ * <p>
+ * By default, the nodes are visited one after another. With a pool, every sweep is partitioned into blocks of nodes
+ * and the nodes of a block are relabeled in parallel, based on the labels before the block. The result only depends
+ * on the seed, not on the number of threads.
+ */
+public class ChineseWhispers {
+
+    static final int DEFAULT_MAX_ITERATIONS = 20;
+    static final double DEFAULT_CONVERGENCE_THRESHOLD = 0d;
+    static final int BLOCKS_PER_SWEEP = 64;
+
+    /**
+     * Score of a neighbor for its label.
+     */
+    public enum NodeWeighting {
+        /**
+         * the weight of the edge to the neighbor
+         */
+        TOP,
+        /**
+         * 1 for every neighbor, regardless of the edge weight, i.e. the most frequent label among the neighbors wins.
+         * <p>
+         * This deliberately differs from the label weighting of watset, which scores every neighbor with the (integer)
+         * label of the node itself: it ranks the labels the same way, except for the node holding label 0, which sees
+         * all labels tied and takes one of them at random.
+         */
+        LABEL,
+        /**
+         * the weight of the edge divided by the degree of the neighbor
+         */
+        LINEAR,
+        /**
+         * the weight of the edge divided by the logarithm of the degree of the neighbor
+         */
+        LOG
+    }
+
+    private final int nodeCount;
+    private final int[] neighborStarts;
+    private final int[] neighbors;
+    private final double[] scores;
+    private long seed = new Random().nextLong();
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private double convergenceThreshold = DEFAULT_CONVERGENCE_THRESHOLD;
+    private ForkJoinPool pool;
+    private int iterations;
+
+    /**
+     * @param nodeCount the number of nodes; nodes are identified by their index
+     * @param edgeCount the number of (undirected) edges, given by the first edgeCount entries of the arrays
+     */
+    public ChineseWhispers(int nodeCount, int[] firstNodes, int[] secondNodes, double[] weights, int edgeCount, NodeWeighting weighting) {
+        AdjacencyLists adjacency = new AdjacencyLists(nodeCount, firstNodes, secondNodes, weights, edgeCount);
+        this.nodeCount = nodeCount;
+        this.neighborStarts = adjacency.starts;
+        this.neighbors = adjacency.neighbors;
+        // the scores of the neighbors do not change between iterations
+        this.scores = new double[neighbors.length];
+        for (int i = 0; i < neighbors.length; i++) {
+            int degree = adjacency.getDegree(neighbors[i]);
+            switch (weighting) {
+            case LABEL:
+                scores[i] = 1d;
+                break;
+            case LINEAR:
+                scores[i] = adjacency.weights[i] / degree;
+                break;
+            case LOG:
+                scores[i] = adjacency.weights[i] / Math.log1p(degree);
+                break;
+            default:
+                scores[i] = adjacency.weights[i];
+            }
+        }
+    }
+
+    /**
+     * Seeds the random order of the nodes and the breaking of ties. Unless set, the clustering is not reproducible.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @param convergenceThreshold share of nodes (between 0 and 1) which may still change their label when the
+     *                             iteration stops
+     */
+    public void setConvergenceThreshold(double convergenceThreshold) {
+        this.convergenceThreshold = convergenceThreshold;
+    }
+
+    /**
+     * Relabels the nodes of every block in parallel on the given pool. By default (no pool), the nodes are relabeled
+     * one after another.
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the iterations of the last clustering
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return the clusters as sorted arrays of node indexes, in the order of their first node
+     */
+    public List<int[]> cluster() {
+        int[] labels = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            labels[node] = node;
+        }
+        int[] order = labels.clone();
+        Random random = new Random(seed);
+        iterations = 0;
+        while (iterations < maxIterations) {
+            iterations++;
+            shuffle(order, random);
+            int changes = pool == null ? sweep(order, labels, random) : sweepInBlocks(order, labels);
+            if (changes <= convergenceThreshold * nodeCount) {
+                break;
+            }
+        }
+        return AdjacencyLists.groupByLabel(labels);
+    }
+
+    private int sweep(int[] order, int[] labels, Random random) {
+        LabelScores labelScores = new LabelScores(nodeCount);
+        int changes = 0;
+        for (int node : order) {
+            int label = labelScores.getBestLabel(node, labels, random::nextInt);
+            if (label != labels[node]) {
+                labels[node] = label;
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+    private int sweepInBlocks(int[] order, int[] labels) {
+        int[] newLabels = new int[order.length];
+        ThreadLocal<LabelScores> labelScores = ThreadLocal.withInitial(() -> new LabelScores(nodeCount));
+        long sweepSeed = seed * 31 + iterations;
+        int changes = 0;
+        int blocks = Math.min(BLOCKS_PER_SWEEP, order.length);
+        for (int block = 0; block < blocks; block++) {
+            int start = (int) ((long) block * order.length / blocks);
+            int end = (int) ((long) (block + 1) * order.length / blocks);
+            pool.submit(() -> IntStream.range(start, end).parallel().forEach(i -> {
+                int node = order[i];
+                newLabels[i] = labelScores.get().getBestLabel(node, labels, ties -> (int) Math.floorMod(mix(sweepSeed + node), (long) ties));
+            })).join();
+            for (int i = start; i < end; i++) {
+                if (newLabels[i] != labels[order[i]]) {
+                    labels[order[i]] = newLabels[i];
+                    changes++;
+                }
+            }
+        }
+        return changes;
+    }
+
+    static void shuffle(int[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Sums up the scores per label of the neighbors of a node; reused for all nodes of a thread.
+     */
+    private class LabelScores {
+
+        private final double[] scoresByLabel;
+        private final boolean[] seen;
+        private final int[] labelsSeen;
+
+        LabelScores(int labelCount) {
+            this.scoresByLabel = new double[labelCount];
+            this.seen = new boolean[labelCount];
+            this.labelsSeen = new int[labelCount];
+        }
+
+        /**
+         * @param tieBreaker chooses one of the given number of labels with the highest score
+         * @return the label with the highest score or the current label, if the node has no neighbors
+         */
+        int getBestLabel(int node, int[] labels, IntUnaryOperator tieBreaker) {
+            int labelCount = 0;
+            for (int i = neighborStarts[node]; i < neighborStarts[node + 1]; i++) {
+                int label = labels[neighbors[i]];
+                if (!seen[label]) {
+                    seen[label] = true;
+                    labelsSeen[labelCount++] = label;
+                }
+                scoresByLabel[label] += scores[i];
+            }
+            if (labelCount == 0) {
+                return labels[node];
+            }
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int ties = 0;
+            for (int i = 0; i < labelCount; i++) {
+                double score = scoresByLabel[labelsSeen[i]];
+                if (score > bestScore) {
+                    bestScore = score;
+                    ties = 1;
+                } else if (score == bestScore) {
+                    ties++;
+                }
+            }
+            int chosen = ties > 1 ? tieBreaker.applyAsInt(ties) : 0;
+            int bestLabel = labels[node];
+            for (int i = 0; i < labelCount; i++) {
+                int label = labelsSeen[i];
+                if (scoresByLabel[label] == bestScore && chosen-- == 0) {
+                    bestLabel = label;
+                }
+                scoresByLabel[label] = 0d;
+                seen[label] = false;
+            }
+            return bestLabel;
+        }
+
+    }
+
+}
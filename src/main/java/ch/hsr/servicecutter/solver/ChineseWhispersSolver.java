@@ -16,27 +16,65 @@
 package ch.hsr.servicecutter.solver;
 
 import ch.hsr.servicecutter.api.ServiceCutterContext;
-import ch.hsr.servicecutter.model.solver.EntityPair;
-import ch.hsr.servicecutter.scorer.Score;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.nlpub.watset.graph.ChineseWhispers;
-import org.nlpub.watset.graph.Clustering;
-import org.nlpub.watset.graph.NodeWeighting;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+import ch.hsr.servicecutter.solver.ChineseWhispers.NodeWeighting;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
-public class ChineseWhispersSolver extends AbstractWatsetSolver {
+/**
+ * Solver based on the built-in {@link ChineseWhispers} implementation. Besides the node weighting, the following
+ * (optional) algorithm parameters are supported:
+ * <ul>
+ * <li>cwSeed: makes the clustering reproducible</li>
+ * <li>cwParallelism: number of threads relabeling the nodes (1 by default)</li>
+ * <li>cwConvergenceThreshold: share of nodes which may still change their label when the iteration stops (0 by
+ * default)</li>
+ * <li>cwMaxIterations: 20 by default</li>
+ * </ul>
+ */
+public class ChineseWhispersSolver extends AbstractIndexedGraphSolver {
+
+    static final int DEFAULT_NODE_WEIGHTING = 0;
 
     private final NodeWeighting nodeWeighting;
+    private final Map<String, Double> algorithmParams;
 
-    public ChineseWhispersSolver(ServiceCutterContext context, Map<EntityPair, Map<String, Score>> scores, SolverConfiguration config) {
-        super(context, scores);
-        this.nodeWeighting = mapNodeWeightingConfig(config.getValueForAlgorithmParam("cwNodeWeighting", 0.0).intValue());
+    public ChineseWhispersSolver(ServiceCutterContext context, ScoreMatrix scores, SolverConfiguration config) {
+        this(context, weightScores(scores, config), config);
+    }
+
+    public ChineseWhispersSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config) {
+        super(context, weightedGraph, config);
+        this.nodeWeighting = mapNodeWeightingConfig(config.getValueForAlgorithmParam("cwNodeWeighting", (double) DEFAULT_NODE_WEIGHTING).intValue());
+        this.algorithmParams = config.getAlgorithmParams();
     }
 
     @Override
-    protected Clustering<String> getAlgorithm() {
-        return new ChineseWhispers<String, DefaultWeightedEdge>(graph, nodeWeighting);
+    public SolverResult solve() {
+        ChineseWhispers clustering = new ChineseWhispers(getNodeCount(), getFirstNodes(), getSecondNodes(), getWeights(), getEdgeCount(), nodeWeighting);
+        if (algorithmParams.containsKey("cwSeed")) {
+            clustering.setSeed(algorithmParams.get("cwSeed").longValue());
+        }
+        if (algorithmParams.containsKey("cwConvergenceThreshold")) {
+            clustering.setConvergenceThreshold(algorithmParams.get("cwConvergenceThreshold"));
+        }
+        if (algorithmParams.containsKey("cwMaxIterations")) {
+            clustering.setMaxIterations(algorithmParams.get("cwMaxIterations").intValue());
+        }
+        int parallelism = algorithmParams.containsKey("cwParallelism") ? algorithmParams.get("cwParallelism").intValue() : 1;
+        if (parallelism <= 1) {
+            return createResult(clustering.cluster());
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            clustering.setForkJoinPool(pool);
+            return createResult(clustering.cluster());
+        } finally {
+            pool.shutdown();
+        }
     }
 
     /**
@@ -52,13 +90,13 @@ public class ChineseWhispersSolver extends AbstractWatsetSolver {
     private NodeWeighting mapNodeWeightingConfig(int nodeWeighting) {
         switch (nodeWeighting) {
             case 1:
-                return NodeWeighting.label();
+                return NodeWeighting.LABEL;
             case 2:
-                return NodeWeighting.linear();
+                return NodeWeighting.LINEAR;
             case 3:
-                return NodeWeighting.log();
+                return NodeWeighting.LOG;
         }
-        return NodeWeighting.top();
+        return NodeWeighting.TOP;
     }
 
 }
@@ -0,0 +1,527 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Leiden community detection (Traag et al.) maximizing the modularity with a resolution parameter, on primitive
+ * adjacency arrays.
+ * <p>
+ * An iteration works on several levels: the nodes are moved between communities as long as this increases the
+ * modularity (local moving), the communities are refined into well-connected sub-communities, and the refined
+ * communities become the nodes of the next level, which starts with the communities found before. The levels stop
+ * when every community consists of a single node. The iterations are repeated, each starting with the communities of
+ * the previous one, until the communities do not change or the maximum number of iterations is reached.
+ * <p>
+ * The refinement merges a well-connected node into the well-connected sub-community with the highest gain, instead of
+ * choosing one of them randomly. By default, the nodes are moved one after another. With a pool, every sweep of local
+ * moving is partitioned into blocks of nodes, for which the best communities are searched in parallel, based on the
+ * communities before the block; the moves are applied one after another, if they still increase the modularity. The
+ * communities are refined in parallel as well. The result only depends on the seed, not on the number of threads.
+ */
+public class Leiden {
+
+    static final double DEFAULT_RESOLUTION = 1d;
+    static final int DEFAULT_MAX_ITERATIONS = 10;
+
+    private static final int NEW_COMMUNITY = -1;
+
+    private final Graph graph;
+    private final double resolution;
+    private long seed = new Random().nextLong();
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private ForkJoinPool pool;
+    private int iterations;
+
+    /**
+     * @param nodeCount  the number of nodes; nodes are identified by their index
+     * @param edgeCount  the number of (undirected) edges, given by the first edgeCount entries of the arrays
+     * @param resolution higher values lead to more and smaller communities
+     */
+    public Leiden(int nodeCount, int[] firstNodes, int[] secondNodes, double[] weights, int edgeCount, double resolution) {
+        this.graph = Graph.of(new AdjacencyLists(nodeCount, firstNodes, secondNodes, weights, edgeCount));
+        this.resolution = resolution;
+    }
+
+    /**
+     * Seeds the random order of the nodes. Unless set, the clustering is not reproducible.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Moves and refines the nodes in parallel on the given pool. By default (no pool), the nodes are moved one after
+     * another.
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the iterations of the last clustering
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return the communities as sorted arrays of node indexes, in the order of their first node
+     */
+    public List<int[]> cluster() {
+        int[] communities = identity(graph.size());
+        double totalStrength = Arrays.stream(graph.strengths).sum();
+        Random random = new Random(seed);
+        iterations = 0;
+        // without edges, every node stays in a community of its own
+        while (iterations < maxIterations && totalStrength > 0d) {
+            iterations++;
+            int[] previous = communities;
+            communities = iterate(previous, random, resolution / totalStrength);
+            if (Arrays.equals(previous, communities)) {
+                break;
+            }
+        }
+        return AdjacencyLists.groupByLabel(communities);
+    }
+
+    /**
+     * @param scale resolution divided by the sum of all node strengths (twice the sum of all edge weights)
+     * @return the community of every node, numbered in the order of their first node
+     */
+    private int[] iterate(int[] communities, Random random, double scale) {
+        Graph level = graph;
+        int[] partition = communities.clone();
+        // the node of the current level every node of the graph belongs to
+        int[] levelNodes = identity(graph.size());
+        while (true) {
+            int[] order = identity(level.size());
+            new LocalMoving(level, partition, scale).moveNodes(order, random);
+            int communityCount = renumber(partition);
+            if (communityCount == level.size()) {
+                break;
+            }
+            int[] refined = refine(level, partition, communityCount, order, scale);
+            int refinedCount = renumber(refined);
+            if (refinedCount == level.size()) {
+                // nothing to merge within the communities; aggregate the communities themselves
+                refined = partition.clone();
+                refinedCount = communityCount;
+            }
+            int[] nextPartition = new int[refinedCount];
+            for (int node = 0; node < level.size(); node++) {
+                nextPartition[refined[node]] = partition[node];
+            }
+            for (int node = 0; node < levelNodes.length; node++) {
+                levelNodes[node] = refined[levelNodes[node]];
+            }
+            level = level.aggregate(refined, refinedCount);
+            partition = nextPartition;
+        }
+        int[] result = new int[graph.size()];
+        for (int node = 0; node < result.length; node++) {
+            result[node] = partition[levelNodes[node]];
+        }
+        renumber(result);
+        return result;
+    }
+
+    /**
+     * Splits every community into well-connected sub-communities: starting with single nodes, every well-connected
+     * node which is still alone is merged into the well-connected sub-community with the highest gain.
+     *
+     * @param order the nodes of a community are visited in this order
+     * @return the sub-community of every node
+     */
+    private int[] refine(Graph level, int[] partition, int communityCount, int[] order, double scale) {
+        int nodeCount = level.size();
+        int[] refined = identity(nodeCount);
+        int[] refinedSizes = new int[nodeCount];
+        Arrays.fill(refinedSizes, 1);
+        double[] refinedStrengths = level.strengths.clone();
+        // weight of the edges from a sub-community to the rest of its community
+        double[] externalWeights = new double[nodeCount];
+        double[] communityStrengths = new double[communityCount];
+        int[] communityStarts = new int[communityCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            communityStrengths[partition[node]] += level.strengths[node];
+            communityStarts[partition[node] + 1]++;
+            for (int i = level.starts[node]; i < level.starts[node + 1]; i++) {
+                if (partition[level.neighbors[i]] == partition[node]) {
+                    externalWeights[node] += level.weights[i];
+                }
+            }
+        }
+        for (int community = 0; community < communityCount; community++) {
+            communityStarts[community + 1] += communityStarts[community];
+        }
+        int[] members = new int[nodeCount];
+        int[] next = Arrays.copyOf(communityStarts, communityCount);
+        for (int node : order) {
+            members[next[partition[node]]++] = node;
+        }
+
+        ThreadLocal<CommunityWeights> communityWeights = ThreadLocal.withInitial(() -> new CommunityWeights(nodeCount));
+        // the communities are independent of each other: a task only touches the nodes and sub-communities of its
+        // own community
+        IntStream communities = IntStream.range(0, communityCount);
+        Runnable refinement = () -> (pool == null ? communities : communities.parallel()).forEach(community -> {
+            CommunityWeights weights = communityWeights.get();
+            double communityStrength = communityStrengths[community];
+            for (int m = communityStarts[community]; m < communityStarts[community + 1]; m++) {
+                int node = members[m];
+                double strength = level.strengths[node];
+                if (refinedSizes[node] != 1 || refined[node] != node
+                        || externalWeights[node] < strength * (communityStrength - strength) * scale) {
+                    continue;
+                }
+                for (int i = level.starts[node]; i < level.starts[node + 1]; i++) {
+                    if (partition[level.neighbors[i]] == community) {
+                        weights.add(refined[level.neighbors[i]], level.weights[i]);
+                    }
+                }
+                int best = node;
+                double bestGain = 0d;
+                for (int j = 0; j < weights.size; j++) {
+                    int candidate = weights.communities[j];
+                    double candidateStrength = refinedStrengths[candidate];
+                    if (candidate == node || externalWeights[candidate] < candidateStrength * (communityStrength - candidateStrength) * scale) {
+                        continue;
+                    }
+                    double gain = weights.get(candidate) - strength * candidateStrength * scale;
+                    if (gain > bestGain) {
+                        best = candidate;
+                        bestGain = gain;
+                    }
+                }
+                if (best != node) {
+                    refined[node] = best;
+                    refinedSizes[node] = 0;
+                    refinedSizes[best]++;
+                    refinedStrengths[node] = 0d;
+                    refinedStrengths[best] += strength;
+                    externalWeights[best] += externalWeights[node] - 2 * weights.get(best);
+                }
+                weights.clear();
+            }
+        });
+        if (pool == null) {
+            refinement.run();
+        } else {
+            pool.submit(refinement).join();
+        }
+        return refined;
+    }
+
+    private static int[] identity(int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    /**
+     * Renumbers the labels (which are smaller than their count) in the order of their first occurrence.
+     *
+     * @return the number of distinct labels
+     */
+    private static int renumber(int[] labels) {
+        int[] numbers = new int[labels.length];
+        Arrays.fill(numbers, -1);
+        int count = 0;
+        for (int i = 0; i < labels.length; i++) {
+            if (numbers[labels[i]] < 0) {
+                numbers[labels[i]] = count++;
+            }
+            labels[i] = numbers[labels[i]];
+        }
+        return count;
+    }
+
+    /**
+     * Moves the nodes of a level between the communities of a partition, as long as this increases the modularity.
+     */
+    private class LocalMoving {
+
+        private final Graph level;
+        private final int[] partition;
+        private final double scale;
+        private final double[] communityStrengths;
+        private final int[] communitySizes;
+        private final int[] emptyCommunities;
+        private int emptyCount;
+
+        LocalMoving(Graph level, int[] partition, double scale) {
+            this.level = level;
+            this.partition = partition;
+            this.scale = scale;
+            this.communityStrengths = new double[level.size()];
+            this.communitySizes = new int[level.size()];
+            for (int node = 0; node < level.size(); node++) {
+                communityStrengths[partition[node]] += level.strengths[node];
+                communitySizes[partition[node]]++;
+            }
+            this.emptyCommunities = new int[level.size()];
+            for (int community = 0; community < level.size(); community++) {
+                if (communitySizes[community] == 0) {
+                    emptyCommunities[emptyCount++] = community;
+                }
+            }
+        }
+
+        /**
+         * @param order shuffled and left in the order of the last sweep
+         */
+        void moveNodes(int[] order, Random random) {
+            ChineseWhispers.shuffle(order, random);
+            if (pool == null) {
+                moveNodesFromQueue(order);
+            } else {
+                while (moveNodesInBlocks(order)) {
+                    ChineseWhispers.shuffle(order, random);
+                }
+            }
+        }
+
+        /**
+         * Visits all nodes once; afterwards only the neighbors of moved nodes, which are not in the new community.
+         */
+        private void moveNodesFromQueue(int[] order) {
+            int nodeCount = level.size();
+            int[] queue = order.clone();
+            boolean[] queued = new boolean[nodeCount];
+            Arrays.fill(queued, true);
+            CommunityWeights weights = new CommunityWeights(nodeCount);
+            int head = 0;
+            int queueSize = nodeCount;
+            while (queueSize > 0) {
+                int node = queue[head];
+                head = (head + 1) % nodeCount;
+                queueSize--;
+                queued[node] = false;
+                int best = findBestCommunity(node, weights);
+                if (best != partition[node]) {
+                    move(node, best);
+                    for (int i = level.starts[node]; i < level.starts[node + 1]; i++) {
+                        int neighbor = level.neighbors[i];
+                        if (!queued[neighbor] && partition[neighbor] != partition[node]) {
+                            queue[(head + queueSize++) % nodeCount] = neighbor;
+                            queued[neighbor] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return whether a node has been moved
+         */
+        private boolean moveNodesInBlocks(int[] order) {
+            int[] proposals = new int[order.length];
+            ThreadLocal<CommunityWeights> communityWeights = ThreadLocal.withInitial(() -> new CommunityWeights(level.size()));
+            boolean moved = false;
+            int blocks = Math.min(ChineseWhispers.BLOCKS_PER_SWEEP, order.length);
+            for (int block = 0; block < blocks; block++) {
+                int start = (int) ((long) block * order.length / blocks);
+                int end = (int) ((long) (block + 1) * order.length / blocks);
+                pool.submit(() -> IntStream.range(start, end).parallel().forEach(i -> proposals[i] = findBestCommunity(order[i], communityWeights.get()))).join();
+                for (int i = start; i < end; i++) {
+                    if (proposals[i] != partition[order[i]] && stillImproves(order[i], proposals[i])) {
+                        move(order[i], proposals[i]);
+                        moved = true;
+                    }
+                }
+            }
+            return moved;
+        }
+
+        /**
+         * @return the community with the highest gain, {@link #NEW_COMMUNITY} or the own community, if no move
+         *         increases the modularity
+         */
+        private int findBestCommunity(int node, CommunityWeights weights) {
+            int own = partition[node];
+            double strength = level.strengths[node];
+            for (int i = level.starts[node]; i < level.starts[node + 1]; i++) {
+                weights.add(partition[level.neighbors[i]], level.weights[i]);
+            }
+            int best = own;
+            double bestGain = weights.get(own) - strength * (communityStrengths[own] - strength) * scale;
+            for (int j = 0; j < weights.size; j++) {
+                int community = weights.communities[j];
+                double gain = weights.get(community) - strength * communityStrengths[community] * scale;
+                if (community != own && gain > bestGain) {
+                    best = community;
+                    bestGain = gain;
+                }
+            }
+            weights.clear();
+            // the gain of an empty community is 0
+            return bestGain < 0d && communitySizes[own] > 1 ? NEW_COMMUNITY : best;
+        }
+
+        /**
+         * Checks a move found in parallel against the communities changed by the other moves of the block.
+         */
+        private boolean stillImproves(int node, int community) {
+            int own = partition[node];
+            double strength = level.strengths[node];
+            double ownWeight = 0d;
+            double communityWeight = 0d;
+            for (int i = level.starts[node]; i < level.starts[node + 1]; i++) {
+                int neighborCommunity = partition[level.neighbors[i]];
+                if (neighborCommunity == own) {
+                    ownWeight += level.weights[i];
+                } else if (neighborCommunity == community) {
+                    communityWeight += level.weights[i];
+                }
+            }
+            double stayGain = ownWeight - strength * (communityStrengths[own] - strength) * scale;
+            if (community == NEW_COMMUNITY) {
+                return stayGain < 0d && communitySizes[own] > 1;
+            }
+            return communityWeight - strength * communityStrengths[community] * scale > stayGain;
+        }
+
+        private void move(int node, int community) {
+            int own = partition[node];
+            int target = community == NEW_COMMUNITY ? emptyCommunities[--emptyCount] : community;
+            double strength = level.strengths[node];
+            communityStrengths[own] -= strength;
+            if (--communitySizes[own] == 0) {
+                emptyCommunities[emptyCount++] = own;
+            }
+            communityStrengths[target] += strength;
+            communitySizes[target]++;
+            partition[node] = target;
+        }
+
+    }
+
+    /**
+     * Sums up the weights of the edges of a node per community; reused for all nodes of a thread.
+     */
+    private static final class CommunityWeights {
+
+        private final double[] weights;
+        private final boolean[] seen;
+        private final int[] communities;
+        private int size;
+
+        CommunityWeights(int communityCount) {
+            this.weights = new double[communityCount];
+            this.seen = new boolean[communityCount];
+            this.communities = new int[communityCount];
+        }
+
+        void add(int community, double weight) {
+            if (!seen[community]) {
+                seen[community] = true;
+                communities[size++] = community;
+            }
+            weights[community] += weight;
+        }
+
+        double get(int community) {
+            return weights[community];
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                weights[communities[i]] = 0d;
+                seen[communities[i]] = false;
+            }
+            size = 0;
+        }
+
+    }
+
+    /**
+     * Graph of a level: the nodes of the first level are the nodes to cluster, the nodes of the following levels are
+     * the sub-communities of the level before. Edges within a node only count for its strength.
+     */
+    private static final class Graph {
+
+        private final int[] starts;
+        private final int[] neighbors;
+        private final double[] weights;
+        private final double[] strengths;
+
+        private Graph(int[] starts, int[] neighbors, double[] weights, double[] strengths) {
+            this.starts = starts;
+            this.neighbors = neighbors;
+            this.weights = weights;
+            this.strengths = strengths;
+        }
+
+        static Graph of(AdjacencyLists adjacency) {
+            double[] strengths = new double[adjacency.getNodeCount()];
+            for (int node = 0; node < strengths.length; node++) {
+                for (int i = adjacency.starts[node]; i < adjacency.starts[node + 1]; i++) {
+                    strengths[node] += adjacency.weights[i];
+                }
+            }
+            return new Graph(adjacency.starts, adjacency.neighbors, adjacency.weights, strengths);
+        }
+
+        int size() {
+            return strengths.length;
+        }
+
+        /**
+         * @param communities the community of every node, numbered in the order of their first node
+         * @return the graph with one node per community
+         */
+        Graph aggregate(int[] communities, int communityCount) {
+            int[] aggregateStarts = new int[communityCount + 1];
+            int[] aggregateNeighbors = new int[neighbors.length];
+            double[] aggregateWeights = new double[neighbors.length];
+            double[] aggregateStrengths = new double[communityCount];
+            CommunityWeights communityWeights = new CommunityWeights(communityCount);
+            int edges = 0;
+            List<int[]> members = AdjacencyLists.groupByLabel(communities);
+            for (int community = 0; community < communityCount; community++) {
+                for (int node : members.get(community)) {
+                    aggregateStrengths[community] += strengths[node];
+                    for (int i = starts[node]; i < starts[node + 1]; i++) {
+                        if (communities[neighbors[i]] != community) {
+                            communityWeights.add(communities[neighbors[i]], weights[i]);
+                        }
+                    }
+                }
+                for (int j = 0; j < communityWeights.size; j++) {
+                    aggregateNeighbors[edges] = communityWeights.communities[j];
+                    aggregateWeights[edges++] = communityWeights.get(communityWeights.communities[j]);
+                }
+                communityWeights.clear();
+                aggregateStarts[community + 1] = edges;
+            }
+            return new Graph(aggregateStarts, Arrays.copyOf(aggregateNeighbors, edges), Arrays.copyOf(aggregateWeights, edges), aggregateStrengths);
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Solver based on the built-in {@link Leiden} implementation. The following (optional) algorithm parameters are
+ * supported:
+ * <ul>
+ * <li>leidenResolution: higher values lead to more and smaller services (1 by default)</li>
+ * <li>leidenSeed: makes the clustering reproducible</li>
+ * <li>leidenParallelism: number of threads moving the nodes (1 by default)</li>
+ * <li>leidenMaxIterations: 10 by default</li>
+ * </ul>
+ */
+public class LeidenSolver extends AbstractIndexedGraphSolver {
+
+    private final double resolution;
+    private final Map<String, Double> algorithmParams;
+
+    public LeidenSolver(ServiceCutterContext context, ScoreMatrix scores, SolverConfiguration config) {
+        this(context, weightScores(scores, config), config);
+    }
+
+    public LeidenSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config) {
+        super(context, weightedGraph, config);
+        this.resolution = config.getValueForAlgorithmParam("leidenResolution", Leiden.DEFAULT_RESOLUTION);
+        this.algorithmParams = config.getAlgorithmParams();
+    }
+
+    @Override
+    public SolverResult solve() {
+        Leiden clustering = new Leiden(getNodeCount(), getFirstNodes(), getSecondNodes(), getWeights(), getEdgeCount(), resolution);
+        if (algorithmParams.containsKey("leidenSeed")) {
+            clustering.setSeed(algorithmParams.get("leidenSeed").longValue());
+        }
+        if (algorithmParams.containsKey("leidenMaxIterations")) {
+            clustering.setMaxIterations(algorithmParams.get("leidenMaxIterations").intValue());
+        }
+        int parallelism = algorithmParams.containsKey("leidenParallelism") ? algorithmParams.get("leidenParallelism").intValue() : 1;
+        if (parallelism <= 1) {
+            return createResult(clustering.cluster());
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            clustering.setForkJoinPool(pool);
+            return createResult(clustering.cluster());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
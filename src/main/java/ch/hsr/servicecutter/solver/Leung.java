@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Label propagation with hop attenuation and node preference (Leung et al.) on primitive adjacency arrays.
+ * <p>
+ * The nodes are visited in random order. A node without labeled neighbors originates a community with score 1.
+ * Otherwise, it joins the community for which the sum of score * degree^m * weight over its neighbors is highest
+ * (ties go to the older community), and its score becomes the highest score among its neighbors in that community,
+ * attenuated by delta. Originators keep a score of 1 as long as they stay in their own community.
+ * <p>
+ * As GraphStream's implementation, which the former solver used, a single sweep is done by default. With a higher
+ * maximum, the sweeps are repeated until no node changes its community.
+ */
+public class Leung {
+
+    static final double DEFAULT_M = 0.1;
+    static final double DEFAULT_DELTA = 0.05;
+    static final int DEFAULT_MAX_ITERATIONS = 1;
+
+    private final AdjacencyLists adjacency;
+    private final double[] preferences;
+    private final double delta;
+    private long seed = new Random().nextLong();
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private int iterations;
+
+    /**
+     * @param nodeCount the number of nodes; nodes are identified by their index
+     * @param edgeCount the number of (undirected) edges, given by the first edgeCount entries of the arrays
+     * @param m         exponent of the degree of a neighbor (node preference)
+     * @param delta     attenuation of the score per hop
+     */
+    public Leung(int nodeCount, int[] firstNodes, int[] secondNodes, double[] weights, int edgeCount, double m, double delta) {
+        this.adjacency = new AdjacencyLists(nodeCount, firstNodes, secondNodes, weights, edgeCount);
+        this.delta = delta;
+        // the preference of a neighbor does not change between iterations, only its score does
+        this.preferences = new double[adjacency.neighbors.length];
+        for (int i = 0; i < preferences.length; i++) {
+            preferences[i] = Math.pow(adjacency.getDegree(adjacency.neighbors[i]), m) * adjacency.weights[i];
+        }
+    }
+
+    /**
+     * Seeds the random order of the nodes. Unless set, the clustering is not reproducible.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("at least one iteration is needed to assign all nodes to communities");
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return the iterations of the last clustering
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return the communities as sorted arrays of node indexes, in the order of their first node
+     */
+    public List<int[]> cluster() {
+        int nodeCount = adjacency.getNodeCount();
+        // a community is identified by the index of its originator
+        int[] labels = new int[nodeCount];
+        Arrays.fill(labels, -1);
+        int[] creationOrder = new int[nodeCount];
+        double[] scores = new double[nodeCount];
+        double[] scoresByLabel = new double[nodeCount];
+        boolean[] seen = new boolean[nodeCount];
+        int[] labelsSeen = new int[nodeCount];
+        int[] order = new int[nodeCount];
+        for (int node = 0; node < nodeCount; node++) {
+            order[node] = node;
+        }
+        Random random = new Random(seed);
+        int communities = 0;
+        iterations = 0;
+        while (iterations < maxIterations) {
+            iterations++;
+            ChineseWhispers.shuffle(order, random);
+            int changes = 0;
+            for (int node : order) {
+                int labelCount = 0;
+                for (int i = adjacency.starts[node]; i < adjacency.starts[node + 1]; i++) {
+                    int label = labels[adjacency.neighbors[i]];
+                    if (label < 0) {
+                        continue;
+                    }
+                    if (!seen[label]) {
+                        seen[label] = true;
+                        labelsSeen[labelCount++] = label;
+                    }
+                    scoresByLabel[label] += scores[adjacency.neighbors[i]] * preferences[i];
+                }
+                int bestLabel = -1;
+                for (int i = 0; i < labelCount; i++) {
+                    int label = labelsSeen[i];
+                    if (bestLabel < 0 || scoresByLabel[label] > scoresByLabel[bestLabel]
+                            || (scoresByLabel[label] == scoresByLabel[bestLabel] && creationOrder[label] < creationOrder[bestLabel])) {
+                        bestLabel = label;
+                    }
+                }
+                for (int i = 0; i < labelCount; i++) {
+                    scoresByLabel[labelsSeen[i]] = 0d;
+                    seen[labelsSeen[i]] = false;
+                }
+
+                if (bestLabel < 0) {
+                    if (labels[node] < 0) {
+                        labels[node] = node;
+                        creationOrder[node] = communities++;
+                        scores[node] = 1d;
+                        changes++;
+                    }
+                } else if (bestLabel != labels[node] || scores[node] != 1d) {
+                    if (bestLabel != labels[node]) {
+                        labels[node] = bestLabel;
+                        changes++;
+                    }
+                    scores[node] = getHighestScore(node, bestLabel, labels, scores) - delta;
+                }
+            }
+            if (changes == 0) {
+                break;
+            }
+        }
+        return AdjacencyLists.groupByLabel(labels);
+    }
+
+    private double getHighestScore(int node, int label, int[] labels, double[] scores) {
+        double highestScore = Double.NEGATIVE_INFINITY;
+        for (int i = adjacency.starts[node]; i < adjacency.starts[node + 1]; i++) {
+            int neighbor = adjacency.neighbors[i];
+            if (labels[neighbor] == label && scores[neighbor] > highestScore) {
+                highestScore = scores[neighbor];
+            }
+        }
+        return highestScore;
+    }
+
+}
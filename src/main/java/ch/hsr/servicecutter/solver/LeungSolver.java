@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Solver based on the built-in {@link Leung} implementation. The following (optional) algorithm parameters are
+ * supported:
+ * <ul>
+ * <li>leungM: node preference, 0.1 by default</li>
+ * <li>leungDelta: hop attenuation, 0.05 by default</li>
+ * <li>leungMaxIterations: 1 by default</li>
+ * <li>leungSeed: makes the clustering reproducible</li>
+ * </ul>
+ */
+public class LeungSolver extends AbstractIndexedGraphSolver {
+
+    private final Logger log = LoggerFactory.getLogger(LeungSolver.class);
+    private final double m;
+    private final double delta;
+    private final Map<String, Double> algorithmParams;
+
+    public LeungSolver(ServiceCutterContext context, ScoreMatrix scores, SolverConfiguration config) {
+        this(context, weightScores(scores, config), config);
+    }
+
+    public LeungSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config) {
+        super(context, weightedGraph, config);
+        this.m = config.getValueForAlgorithmParam("leungM", Leung.DEFAULT_M);
+        this.delta = config.getValueForAlgorithmParam("leungDelta", Leung.DEFAULT_DELTA);
+        this.algorithmParams = config.getAlgorithmParams();
+    }
+
+    @Override
+    public SolverResult solve() {
+        Leung clustering = new Leung(getNodeCount(), getFirstNodes(), getSecondNodes(), getWeights(), getEdgeCount(), m, delta);
+        if (algorithmParams.containsKey("leungSeed")) {
+            clustering.setSeed(algorithmParams.get("leungSeed").longValue());
+        }
+        if (algorithmParams.containsKey("leungMaxIterations")) {
+            clustering.setMaxIterations(algorithmParams.get("leungMaxIterations").intValue());
+        }
+        log.info("Using parameters m={} and delta={}", m, delta);
+        SolverResult result = createResult(clustering.cluster());
+        log.info("found {} families after {} iterations", result.getServices().size(), clustering.getIterations());
+        return result;
+    }
+
+}
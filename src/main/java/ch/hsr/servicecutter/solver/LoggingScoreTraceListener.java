@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs the scores of every n-th edge on debug level.
+ */
+public class LoggingScoreTraceListener implements ScoreTraceListener {
+
+    private final Logger log;
+    private final int sampleInterval;
+    private final AtomicLong edgeCount = new AtomicLong();
+
+    public LoggingScoreTraceListener() {
+        this(1);
+    }
+
+    /**
+     * @param sampleInterval
+     *            logs one out of sampleInterval edges
+     */
+    public LoggingScoreTraceListener(int sampleInterval) {
+        this(sampleInterval, LoggerFactory.getLogger(LoggingScoreTraceListener.class));
+    }
+
+    LoggingScoreTraceListener(int sampleInterval, Logger log) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("sample interval must be at least 1");
+        }
+        this.sampleInterval = sampleInterval;
+        this.log = log;
+    }
+
+    /**
+     * Decides once per edge, so that the scores and the edge logged together belong to the same edge, even if the
+     * listener is shared between threads.
+     */
+    @Override
+    public boolean isTraced(Nanoentity first, Nanoentity second) {
+        return log.isDebugEnabled() && edgeCount.getAndIncrement() % sampleInterval == 0;
+    }
+
+    @Override
+    public void criterionScored(Nanoentity first, Nanoentity second, String criterion, double score, double priority) {
+        log.debug("{} - {}: {}: {} with priority {} results in {}", first, second, criterion, score, priority, score * priority);
+    }
+
+    @Override
+    public void edgeCreated(Nanoentity first, Nanoentity second, double weight) {
+        log.debug("create edge with weight {} from node {} to {}", weight, first, second);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Markov Clustering (MCL) on sparse matrices of primitive doubles.
+ * <p>
+ * Follows the iteration of the former watset based solver, so that the decompositions do not change: every node gets
+ * a loop of weight 1 and the columns are normalized; then the matrix is expanded (raised to the power of the expansion
+ * operations) and inflated (columns normalized, entries raised to the power coefficient) until it converges, 20 times
+ * at most. In addition, entries below the prune threshold are removed after normalization, which keeps the matrix
+ * sparse.
+ */
+public class MarkovClustering {
+
+    static final int DEFAULT_EXPANSION_OPERATIONS = 2;
+    static final double DEFAULT_POWER_COEFFICIENT = 2d;
+    static final double DEFAULT_PRUNE_THRESHOLD = 1e-5;
+    static final int MAX_ITERATIONS = 20;
+    static final double CONVERGENCE_TOLERANCE = 1e-9;
+
+    private final SparseMatrix adjacency;
+    private final int expansionOperations;
+    private final double powerCoefficient;
+    private final double pruneThreshold;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int iterations;
+
+    /**
+     * @param nodeCount the number of nodes; nodes are identified by their index
+     * @param edgeCount the number of (undirected) edges, given by the first edgeCount entries of the arrays
+     */
+    public MarkovClustering(int nodeCount, int[] firstNodes, int[] secondNodes, double[] weights, int edgeCount, int expansionOperations,
+            double powerCoefficient, double pruneThreshold) {
+        if (expansionOperations < 1) {
+            throw new IllegalArgumentException("expansion operations must be at least 1");
+        }
+        this.adjacency = SparseMatrix.ofUndirectedGraphWithLoops(nodeCount, firstNodes, secondNodes, weights, edgeCount);
+        this.expansionOperations = expansionOperations;
+        this.powerCoefficient = powerCoefficient;
+        this.pruneThreshold = pruneThreshold;
+    }
+
+    /**
+     * The rows of the matrix products are calculated in parallel on the given pool (the common pool by default).
+     */
+    public void setForkJoinPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the iterations of the last clustering
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return the clusters as sorted arrays of node indexes; clusters may overlap
+     */
+    public List<int[]> cluster() {
+        SparseMatrix matrix = adjacency.copy();
+        matrix.normalizeColumns();
+        for (iterations = 1; iterations <= MAX_ITERATIONS; iterations++) {
+            SparseMatrix previous = matrix;
+            matrix = expand(matrix);
+            inflate(matrix);
+            if (matrix.equalsWithin(previous, CONVERGENCE_TOLERANCE)) {
+                break;
+            }
+        }
+        iterations = Math.min(iterations, MAX_ITERATIONS);
+        return getClusters(matrix);
+    }
+
+    private SparseMatrix expand(SparseMatrix matrix) {
+        SparseMatrix result = matrix;
+        for (int i = 1; i < expansionOperations; i++) {
+            result = result.multiply(matrix, pool);
+        }
+        return result;
+    }
+
+    private void inflate(SparseMatrix matrix) {
+        matrix.normalizeColumns();
+        matrix.transform(value -> value >= pruneThreshold ? Math.pow(value, powerCoefficient) : 0d, value -> value > 0d);
+    }
+
+    private List<int[]> getClusters(SparseMatrix matrix) {
+        // every row with entries is an attractor; its cluster consists of the
+        // nodes (columns) it attracts
+        Set<List<Integer>> distinctClusters = new LinkedHashSet<>();
+        List<int[]> clusters = new ArrayList<>();
+        for (int row = 0; row < matrix.size(); row++) {
+            int[] cluster = matrix.getColumns(row);
+            if (cluster.length > 0 && distinctClusters.add(asList(cluster))) {
+                clusters.add(cluster);
+            }
+        }
+        return clusters;
+    }
+
+    private static List<Integer> asList(int[] values) {
+        List<Integer> list = new ArrayList<>(values.length);
+        for (int value : values) {
+            list.add(value);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+}
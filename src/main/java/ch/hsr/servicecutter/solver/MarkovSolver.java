@@ -16,27 +16,35 @@
 package ch.hsr.servicecutter.solver;
 
 import ch.hsr.servicecutter.api.ServiceCutterContext;
-import ch.hsr.servicecutter.model.solver.EntityPair;
-import ch.hsr.servicecutter.scorer.Score;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.nlpub.watset.graph.Clustering;
-import org.nlpub.watset.graph.MarkovClustering;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
 
-import java.util.Map;
-
-public class MarkovSolver extends AbstractWatsetSolver {
+/**
+ * Solver based on the built-in {@link MarkovClustering} implementation.
+ */
+public class MarkovSolver extends AbstractIndexedGraphSolver {
 
     private int expansionOperations;
     private double powerCoefficient;
+    private double pruneThreshold;
 
-    public MarkovSolver(ServiceCutterContext context, Map<EntityPair, Map<String, Score>> scores, SolverConfiguration config) {
-        super(context, scores);
-        this.expansionOperations = config.getValueForAlgorithmParam("mclExpansionOperations", 2.0).intValue();
-        this.powerCoefficient = config.getValueForAlgorithmParam("mclPowerCoefficient", 2.0).doubleValue();
+    public MarkovSolver(ServiceCutterContext context, ScoreMatrix scores, SolverConfiguration config) {
+        this(context, weightScores(scores, config), config);
+    }
+
+    public MarkovSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config) {
+        super(context, weightedGraph, config);
+        this.expansionOperations = config.getValueForAlgorithmParam("mclExpansionOperations", (double) MarkovClustering.DEFAULT_EXPANSION_OPERATIONS).intValue();
+        this.powerCoefficient = config.getValueForAlgorithmParam("mclPowerCoefficient", MarkovClustering.DEFAULT_POWER_COEFFICIENT).doubleValue();
+        this.pruneThreshold = config.getValueForAlgorithmParam("mclPruneThreshold", MarkovClustering.DEFAULT_PRUNE_THRESHOLD).doubleValue();
     }
 
     @Override
-    protected Clustering<String> getAlgorithm() {
-        return new MarkovClustering<String, DefaultWeightedEdge>(graph, expansionOperations, powerCoefficient);
+    public SolverResult solve() {
+        MarkovClustering clustering = new MarkovClustering(getNodeCount(), getFirstNodes(), getSecondNodes(), getWeights(), getEdgeCount(),
+                expansionOperations, powerCoefficient, pruneThreshold);
+        return createResult(clustering.cluster());
     }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+
+/**
+ * Receives the scores behind every edge the solver creates, e.g. to explain a decomposition. The scores per criterion
+ * are only looked up if a listener is set (see {@link SolverConfiguration#setScoreTraceListener(ScoreTraceListener)}).
+ */
+public interface ScoreTraceListener {
+
+    /**
+     * Called once per edge before its scores are looked up. If false is returned, neither
+     * {@link #criterionScored(Nanoentity, Nanoentity, String, double, double)} nor
+     * {@link #edgeCreated(Nanoentity, Nanoentity, double)} is called for the edge.
+     */
+    default boolean isTraced(Nanoentity first, Nanoentity second) {
+        return true;
+    }
+
+    /**
+     * Called once per criterion with a (not prioritized) score other than 0 for the pair, before
+     * {@link #edgeCreated(Nanoentity, Nanoentity, double)} is called for it.
+     */
+    void criterionScored(Nanoentity first, Nanoentity second, String criterion, double score, double priority);
+
+    /**
+     * @param weight
+     *            the sum of the prioritized scores of all criteria
+     */
+    void edgeCreated(Nanoentity first, Nanoentity second, double weight);
+
+}
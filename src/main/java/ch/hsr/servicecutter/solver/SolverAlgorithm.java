@@ -4,7 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 
 public enum SolverAlgorithm {
 
-    LEUNG("Leung"), CHINESE_WHISPERS("Chinese Whispers"), MARKOV_CLUSTERING("Markov Clustering");
+    LEUNG("Leung"), CHINESE_WHISPERS("Chinese Whispers"), MARKOV_CLUSTERING("Markov Clustering"), LEIDEN("Leiden"), AUTO("Auto");
 
     private String name;
 
@@ -7,6 +7,7 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.base.MoreObjects;
 
 public class SolverConfiguration {
@@ -14,6 +15,8 @@ public class SolverConfiguration {
     private Map<String, Double> algorithmParams = new HashMap<>();
     private Map<String, SolverPriority> priorities = new HashMap<>();
     private SolverAlgorithm algorithm = SolverAlgorithm.MARKOV_CLUSTERING;
+    @JsonIgnore
+    private ScoreTraceListener scoreTraceListener;
 
     private Logger log = LoggerFactory.getLogger(SolverConfiguration.class);
 
@@ -63,4 +66,17 @@ public class SolverConfiguration {
         return algorithm;
     }
 
-}
\ No newline at end of file
+    @JsonIgnore
+    public ScoreTraceListener getScoreTraceListener() {
+        return scoreTraceListener;
+    }
+
+    /**
+     * Passes the scores of every edge the solver creates to the listener. No scores are traced by default.
+     */
+    @JsonIgnore
+    public void setScoreTraceListener(final ScoreTraceListener scoreTraceListener) {
+        this.scoreTraceListener = scoreTraceListener;
+    }
+
+}
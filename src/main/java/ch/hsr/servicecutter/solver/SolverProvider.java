@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+
+import java.util.Map;
+
+/**
+ * Provides a solver to the {@link SolverRegistry}. Besides the built-in solvers, the registry loads providers with
+ * {@link java.util.ServiceLoader}, i.e. they are listed in {@code META-INF/services/ch.hsr.servicecutter.solver.SolverProvider}.
+ */
+public interface SolverProvider {
+
+    /**
+     * @return the name the solver is selected by; a provider with the name of a {@link SolverAlgorithm} replaces the
+     *         built-in solver of this algorithm
+     */
+    String getName();
+
+    /**
+     * @return the algorithm parameters read by the solver, with the values it uses if they are not configured
+     */
+    Map<String, Double> getParameters();
+
+    /**
+     * @return the estimated time (in microseconds) to solve a graph of the given size
+     */
+    double estimateCost(int nodeCount, int edgeCount);
+
+    /**
+     * @return whether the solver may be selected for a graph of the given size by {@link SolverAlgorithm#AUTO}
+     */
+    default boolean isSuitable(int nodeCount, int edgeCount) {
+        return true;
+    }
+
+    Solver createSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config);
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Solver providers by name. Providers are registered before the registry is used; afterwards, it may be shared
+ * between threads.
+ */
+public class SolverRegistry {
+
+    private static SolverRegistry defaultRegistry;
+
+    private final Logger log = LoggerFactory.getLogger(SolverRegistry.class);
+    private final Map<String, SolverProvider> providers = new LinkedHashMap<>();
+
+    /**
+     * Creates a registry with the built-in solvers only.
+     */
+    public SolverRegistry() {
+        for (SolverProvider provider : BuiltInSolverProvider.values()) {
+            register(provider);
+        }
+    }
+
+    /**
+     * @return a registry with the built-in solvers and the providers found by {@link ServiceLoader}; loaded once
+     */
+    public static synchronized SolverRegistry getDefault() {
+        if (defaultRegistry == null) {
+            SolverRegistry registry = new SolverRegistry();
+            for (SolverProvider provider : ServiceLoader.load(SolverProvider.class)) {
+                registry.register(provider);
+            }
+            defaultRegistry = registry;
+        }
+        return defaultRegistry;
+    }
+
+    /**
+     * Adds the provider; replaces a provider with the same name.
+     */
+    public void register(SolverProvider provider) {
+        if (providers.put(provider.getName(), provider) != null) {
+            log.info("solver {} replaced by {}", provider.getName(), provider.getClass().getName());
+        }
+    }
+
+    /**
+     * @return the provider with the given name or null, if there is none
+     */
+    public SolverProvider getProvider(String name) {
+        return providers.get(name);
+    }
+
+    public Collection<SolverProvider> getProviders() {
+        return Collections.unmodifiableCollection(providers.values());
+    }
+
+    /**
+     * @return the provider of the algorithm or, for {@link SolverAlgorithm#AUTO}, the suitable provider with the
+     *         lowest estimated cost for a graph of the given size
+     */
+    public SolverProvider selectProvider(SolverAlgorithm algorithm, int nodeCount, int edgeCount) {
+        if (!SolverAlgorithm.AUTO.equals(algorithm)) {
+            SolverProvider provider = providers.get(algorithm.name());
+            if (provider == null) {
+                throw new RuntimeException("Algorithm " + algorithm.toString() + " not found!");
+            }
+            return provider;
+        }
+        SolverProvider cheapest = null;
+        double lowestCost = Double.POSITIVE_INFINITY;
+        for (SolverProvider provider : providers.values()) {
+            if (!provider.isSuitable(nodeCount, edgeCount)) {
+                continue;
+            }
+            double cost = provider.estimateCost(nodeCount, edgeCount);
+            if (cheapest == null || cost < lowestCost) {
+                cheapest = provider;
+                lowestCost = cost;
+            }
+        }
+        if (cheapest == null) {
+            throw new RuntimeException("No solver suitable for " + nodeCount + " nodes and " + edgeCount + " edges found!");
+        }
+        log.info("selected solver {} for {} nodes and {} edges (estimated {}us)", cheapest.getName(), nodeCount, edgeCount, lowestCost);
+        return cheapest;
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Square sparse matrix of primitive doubles in compressed sparse row (CSR) format. The entries of every row are sorted
+ * by column. Used by {@link MarkovClustering}.
+ */
+final class SparseMatrix {
+
+    private final int size;
+    private final int[] rowStarts;
+    private int[] columns;
+    private double[] values;
+
+    private SparseMatrix(int size, int[] rowStarts, int[] columns, double[] values) {
+        this.size = size;
+        this.rowStarts = rowStarts;
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Creates the symmetric adjacency matrix of an undirected graph with a loop of weight 1 on every node.
+     *
+     * @param size the number of nodes
+     * @param edgeCount the number of edges, which are given by the first edgeCount entries of the arrays
+     */
+    static SparseMatrix ofUndirectedGraphWithLoops(int size, int[] firstNodes, int[] secondNodes, double[] weights, int edgeCount) {
+        int[] rowStarts = new int[size + 1];
+        for (int row = 0; row < size; row++) {
+            rowStarts[row + 1] = 1;
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            rowStarts[firstNodes[i] + 1]++;
+            rowStarts[secondNodes[i] + 1]++;
+        }
+        for (int row = 0; row < size; row++) {
+            rowStarts[row + 1] += rowStarts[row];
+        }
+        int[] columns = new int[rowStarts[size]];
+        double[] values = new double[rowStarts[size]];
+        int[] next = Arrays.copyOf(rowStarts, size);
+        for (int row = 0; row < size; row++) {
+            columns[next[row]] = row;
+            values[next[row]++] = 1d;
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            columns[next[firstNodes[i]]] = secondNodes[i];
+            values[next[firstNodes[i]]++] = weights[i];
+            columns[next[secondNodes[i]]] = firstNodes[i];
+            values[next[secondNodes[i]]++] = weights[i];
+        }
+        SparseMatrix matrix = new SparseMatrix(size, rowStarts, columns, values);
+        matrix.sortRows();
+        return matrix;
+    }
+
+    SparseMatrix copy() {
+        return new SparseMatrix(size, rowStarts.clone(), Arrays.copyOf(columns, nonZeros()), Arrays.copyOf(values, nonZeros()));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int nonZeros() {
+        return rowStarts[size];
+    }
+
+    double get(int row, int column) {
+        int index = Arrays.binarySearch(columns, rowStarts[row], rowStarts[row + 1], column);
+        return index >= 0 ? values[index] : 0d;
+    }
+
+    /**
+     * @return the columns of the entries of the row, in ascending order
+     */
+    int[] getColumns(int row) {
+        return Arrays.copyOfRange(columns, rowStarts[row], rowStarts[row + 1]);
+    }
+
+    /**
+     * Multiplies this matrix with the other one. The rows of the product are independent of each other and calculated
+     * in parallel on the pool.
+     */
+    SparseMatrix multiply(SparseMatrix other, ForkJoinPool pool) {
+        int[][] rowColumns = new int[size][];
+        double[][] rowValues = new double[size][];
+        int chunks = Math.max(1, Math.min(size, pool.getParallelism() * 4));
+        Runnable multiplication = () -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            // dense accumulator for the row, reused for all rows of the chunk
+            double[] accumulator = new double[size];
+            boolean[] occupied = new boolean[size];
+            int[] occupiedColumns = new int[size];
+            for (int row = (int) ((long) chunk * size / chunks); row < (int) ((long) (chunk + 1) * size / chunks); row++) {
+                int count = 0;
+                for (int i = rowStarts[row]; i < rowStarts[row + 1]; i++) {
+                    int k = columns[i];
+                    double value = values[i];
+                    for (int j = other.rowStarts[k]; j < other.rowStarts[k + 1]; j++) {
+                        int column = other.columns[j];
+                        if (!occupied[column]) {
+                            occupied[column] = true;
+                            occupiedColumns[count++] = column;
+                        }
+                        accumulator[column] += value * other.values[j];
+                    }
+                }
+                int[] resultColumns = Arrays.copyOf(occupiedColumns, count);
+                Arrays.sort(resultColumns);
+                double[] resultValues = new double[count];
+                for (int i = 0; i < count; i++) {
+                    int column = resultColumns[i];
+                    resultValues[i] = accumulator[column];
+                    accumulator[column] = 0d;
+                    occupied[column] = false;
+                }
+                rowColumns[row] = resultColumns;
+                rowValues[row] = resultValues;
+            }
+        });
+        pool.submit(multiplication).join();
+
+        int[] rowStarts = new int[size + 1];
+        for (int row = 0; row < size; row++) {
+            rowStarts[row + 1] = rowStarts[row] + rowColumns[row].length;
+        }
+        int[] columns = new int[rowStarts[size]];
+        double[] values = new double[rowStarts[size]];
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(rowColumns[row], 0, columns, rowStarts[row], rowColumns[row].length);
+            System.arraycopy(rowValues[row], 0, values, rowStarts[row], rowValues[row].length);
+        }
+        return new SparseMatrix(size, rowStarts, columns, values);
+    }
+
+    /**
+     * Divides every entry by the sum of its column.
+     */
+    void normalizeColumns() {
+        double[] sums = new double[size];
+        for (int i = 0; i < nonZeros(); i++) {
+            sums[columns[i]] += values[i];
+        }
+        for (int i = 0; i < nonZeros(); i++) {
+            values[i] /= sums[columns[i]];
+        }
+    }
+
+    /**
+     * Applies the operator to every entry and removes the entries which do not fulfill the condition afterwards.
+     */
+    void transform(DoubleUnaryOperator operator, DoublePredicate retained) {
+        int next = 0;
+        int rowStart = 0;
+        for (int row = 0; row < size; row++) {
+            int rowEnd = rowStarts[row + 1];
+            for (int i = rowStart; i < rowEnd; i++) {
+                double value = operator.applyAsDouble(values[i]);
+                if (retained.test(value)) {
+                    columns[next] = columns[i];
+                    values[next++] = value;
+                }
+            }
+            rowStart = rowEnd;
+            rowStarts[row + 1] = next;
+        }
+        if (next < columns.length / 2) {
+            columns = Arrays.copyOf(columns, next);
+            values = Arrays.copyOf(values, next);
+        }
+    }
+
+    /**
+     * @return true, if both matrices have the same entries and their values differ by the tolerance (relative to the
+     *         larger value) at most
+     */
+    boolean equalsWithin(SparseMatrix other, double tolerance) {
+        if (size != other.size || nonZeros() != other.nonZeros()) {
+            return false;
+        }
+        for (int row = 0; row <= size; row++) {
+            if (rowStarts[row] != other.rowStarts[row]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < nonZeros(); i++) {
+            if (columns[i] != other.columns[i] || Math.abs(values[i] - other.values[i]) > tolerance * Math.max(Math.abs(values[i]), Math.abs(other.values[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void sortRows() {
+        long[] keys = new long[0];
+        for (int row = 0; row < size; row++) {
+            int start = rowStarts[row];
+            int length = rowStarts[row + 1] - start;
+            if (keys.length < length) {
+                keys = new long[length];
+            }
+            // sort the positions within the row by column
+            for (int i = 0; i < length; i++) {
+                keys[i] = ((long) columns[start + i] << 32) | i;
+            }
+            Arrays.sort(keys, 0, length);
+            double[] rowValues = Arrays.copyOfRange(values, start, start + length);
+            for (int i = 0; i < length; i++) {
+                columns[start + i] = (int) (keys[i] >>> 32);
+                values[start + i] = rowValues[(int) keys[i]];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.api;
+
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.solver.SolverAlgorithm;
+import ch.hsr.servicecutter.solver.SolverConfiguration;
+import ch.hsr.servicecutter.solver.SolverPriority;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServiceCutterBatchTest {
+
+    @Test
+    public void generatesDecompositionPerConfiguration() throws IOException {
+        // given
+        ServiceCutterContext context = createBookingContext();
+        SolverConfiguration markov = createConfiguration(SolverAlgorithm.MARKOV_CLUSTERING);
+        SolverConfiguration prioritizedMarkov = createConfiguration(SolverAlgorithm.MARKOV_CLUSTERING);
+        prioritizedMarkov.setPriority(CouplingCriterion.SEMANTIC_PROXIMITY, SolverPriority.XXL);
+        SolverConfiguration leung = createConfiguration(SolverAlgorithm.LEUNG);
+        SolverConfiguration chineseWhispers = createConfiguration(SolverAlgorithm.CHINESE_WHISPERS);
+        SolverConfiguration withoutPriorities = createConfiguration(SolverAlgorithm.MARKOV_CLUSTERING);
+        withoutPriorities.getPriorities().clear();
+
+        // when
+        List<SolverResult> results = new ServiceCutterBatch(context)
+                .generateDecompositions(Arrays.asList(markov, prioritizedMarkov, leung, chineseWhispers, withoutPriorities));
+
+        // then
+        assertEquals(5, results.size());
+        assertSameResult(generateSequentially(context, markov), results.get(0));
+        assertSameResult(generateSequentially(context, prioritizedMarkov), results.get(1));
+        assertTrue(results.get(2).getServices().size() > 0);
+        assertTrue(results.get(3).getServices().size() > 0);
+        assertEquals(0, results.get(4).getServices().size());
+    }
+
+    private SolverResult generateSequentially(ServiceCutterContext context, SolverConfiguration configuration) {
+        context.setSolverConfiguration(configuration);
+        return new ServiceCutter(context).generateDecomposition();
+    }
+
+    private void assertSameResult(SolverResult expected, SolverResult actual) {
+        assertEquals(expected.getServices().size(), actual.getServices().size());
+        assertEquals(expected.getRelations().size(), actual.getRelations().size());
+    }
+
+    private SolverConfiguration createConfiguration(SolverAlgorithm algorithm) {
+        SolverConfiguration configuration = new SolverConfigurationFactory().createDefaultConfiguration();
+        configuration.setAlgorithm(algorithm);
+        return configuration;
+    }
+
+    private ServiceCutterContext createBookingContext() throws IOException {
+        EntityRelationDiagramImporterJSON erdImporterJSON = new EntityRelationDiagramImporterJSON();
+        UserRepresentationContainerImporterJSON urImporterJSON = new UserRepresentationContainerImporterJSON();
+        return new ServiceCutterContextBuilder(erdImporterJSON.createERDFromJSONFile(new File("./src/test/resources/booking_1_model.json")))
+                .withUserRepresentations(urImporterJSON.createUserRepresentationContainerFromJSONFile(new File("./src/test/resources/booking_2_user_representations.json")))
+                .build();
+    }
+
+}
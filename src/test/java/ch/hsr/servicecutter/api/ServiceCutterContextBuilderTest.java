@@ -15,10 +15,27 @@
  */
 package ch.hsr.servicecutter.api;
 
+import ch.hsr.servicecutter.api.model.Entity;
+import ch.hsr.servicecutter.api.model.EntityRelation;
+import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
+import ch.hsr.servicecutter.generator.SyntheticModel;
+import ch.hsr.servicecutter.generator.SyntheticModelGenerator;
+import ch.hsr.servicecutter.model.criteria.CouplingType;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.InstanceType;
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -60,4 +77,77 @@ public class ServiceCutterContextBuilderTest {
         assertTrue(context.getCouplingInstances().size() > 0);
     }
 
+    @Test
+    public void canMergeEntitiesByCompositionAndInheritance() {
+        // given
+        List<Entity> entities = new ArrayList<>();
+        for (String name : Arrays.asList("Order", "OrderLine", "Product", "Book", "A", "B", "C")) {
+            Entity entity = new Entity(name);
+            entity.setNanoentities(Arrays.asList("id"));
+            entities.add(entity);
+        }
+        EntityRelationDiagram diagram = new EntityRelationDiagram();
+        diagram.setName("Shop");
+        diagram.setEntities(entities);
+        diagram.setRelations(Arrays.asList(createRelation(entities.get(0), entities.get(1), EntityRelation.RelationType.COMPOSITION),
+                createRelation(entities.get(3), entities.get(2), EntityRelation.RelationType.INHERITANCE),
+                createRelation(entities.get(4), entities.get(5), EntityRelation.RelationType.COMPOSITION),
+                createRelation(entities.get(5), entities.get(6), EntityRelation.RelationType.COMPOSITION),
+                createRelation(entities.get(6), entities.get(4), EntityRelation.RelationType.COMPOSITION)));
+
+        // when
+        ServiceCutterContext context = new ServiceCutterContextBuilder(diagram).build();
+
+        // then
+        Map<String, Set<String>> entityNanoentities = new TreeMap<>();
+        for (CouplingInstance instance : context.getCouplingInstances()) {
+            if (InstanceType.SAME_ENTITY.equals(instance.getType())) {
+                Set<String> nanoentities = new TreeSet<>();
+                for (Nanoentity nanoentity : instance.getNanoentities()) {
+                    nanoentities.add(nanoentity.getContextName());
+                }
+                entityNanoentities.put(instance.getName(), nanoentities);
+            }
+        }
+        assertEquals(new TreeSet<>(Arrays.asList("Order.id", "OrderLine.id")), entityNanoentities.get("Order"));
+        assertEquals(new TreeSet<>(Arrays.asList("Book.id", "Product.id")), entityNanoentities.get("Product"));
+        // the cycle is not merged
+        assertEquals(new TreeSet<>(Arrays.asList("A.id")), entityNanoentities.get("A"));
+        assertEquals(new TreeSet<>(Arrays.asList("C.id")), entityNanoentities.get("C"));
+        assertEquals(5, entityNanoentities.size());
+    }
+
+    @Test
+    public void completesCompatibilitiesWithDefaults() {
+        // given
+        SyntheticModel model = new SyntheticModelGenerator().withEntities(30, 5).withCharacteristicCoverage(0.3d).generate();
+        ServiceCutterContextBuilder builder = new ServiceCutterContextBuilder(model.getEntityRelationDiagram()).withUserRepresentations(model.getUserRepresentations());
+
+        // when
+        ServiceCutterContext context = builder.build();
+
+        // then
+        Map<String, Map<Nanoentity, Integer>> characteristicsByCriterion = new HashMap<>();
+        for (CouplingInstance instance : context.getCouplingInstances()) {
+            if (CouplingType.COMPATIBILITY.equals(instance.getCouplingCriterion().getType())) {
+                for (Nanoentity nanoentity : instance.getAllNanoentities()) {
+                    characteristicsByCriterion.computeIfAbsent(instance.getCouplingCriterion().getName(), name -> new HashMap<>()).merge(nanoentity, 1, Integer::sum);
+                }
+            }
+        }
+        assertEquals(6, characteristicsByCriterion.size());
+        for (Map<Nanoentity, Integer> characteristics : characteristicsByCriterion.values()) {
+            assertEquals(context.getNanoEntities(), characteristics.keySet());
+            assertTrue(characteristics.values().stream().allMatch(count -> count == 1));
+        }
+    }
+
+    private EntityRelation createRelation(final Entity origin, final Entity destination, final EntityRelation.RelationType type) {
+        EntityRelation relation = new EntityRelation();
+        relation.setOrigin(origin);
+        relation.setDestination(destination);
+        relation.setType(type);
+        return relation;
+    }
+
 }
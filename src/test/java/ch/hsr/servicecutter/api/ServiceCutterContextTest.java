@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.api;
+
+import ch.hsr.servicecutter.model.criteria.CouplingCriteriaCatalog;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
+import ch.hsr.servicecutter.model.criteria.CouplingType;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.InstanceType;
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ServiceCutterContextTest {
+
+    @Test
+    public void canFindNanoentitiesByContextAndName() {
+        // given
+        ServiceCutterContext context = new ServiceCutterContext("test");
+        Nanoentity customerName = createNanoentity("Customer", "name");
+        Nanoentity articleName = createNanoentity("Article", "name");
+        Nanoentity articlePrice = createNanoentity("Article", "price");
+
+        // when
+        context.addNanoEntity(customerName);
+        context.addNanoEntity(articleName);
+        context.addNanoEntity(articlePrice);
+
+        // then
+        assertSame(articleName, context.findNanoEntityByContextAndName("Article", "name").get());
+        assertSame(customerName, context.findNanoEntityByContextAndName("Customer", "name").get());
+        assertFalse(context.findNanoEntityByContextAndName("Customer", "price").isPresent());
+        assertFalse(context.findNanoEntityByContextAndName("Booking", "name").isPresent());
+        assertSame(articlePrice, context.findNanoEntityByName("price").get());
+        assertFalse(context.findNanoEntityByName("id").isPresent());
+    }
+
+    @Test
+    public void detectsAmbiguousNames() {
+        // given
+        ServiceCutterContext context = new ServiceCutterContext("test");
+        Nanoentity customerName = createNanoentity("Customer", "name");
+
+        // when
+        context.addNanoEntity(customerName);
+        context.addNanoEntity(createNanoentity("Customer", "name"));
+        context.addNanoEntity(createNanoentity("Customer", "email"));
+        context.addNanoEntity(createNanoentity("Article", "name"));
+
+        // then
+        assertTrue(context.isAmbiguousNanoEntityName("name"));
+        assertFalse(context.isAmbiguousNanoEntityName("email"));
+        assertSame(customerName, context.findNanoEntityByName("name").get());
+        assertEquals(3, context.getNanoEntities().size());
+    }
+
+    @Test
+    public void indexesCouplingInstances() {
+        // given
+        ServiceCutterContext context = new ServiceCutterContext("test");
+        CouplingCriteriaCatalog catalog = context.getCriteriaCatalog();
+        CouplingInstance useCase = new CouplingInstance(catalog.getCriterionByName(CouplingCriterion.SEMANTIC_PROXIMITY), InstanceType.USE_CASE);
+        CouplingInstance latencyUseCase = new CouplingInstance(catalog.getCriterionByName(CouplingCriterion.SEMANTIC_PROXIMITY), InstanceType.LATENCY_USE_CASE);
+        CouplingInstance sharedOwner = new CouplingInstance(catalog.getCriterionByName(CouplingCriterion.SHARED_OWNER), InstanceType.RELATED_GROUP);
+        CouplingCriterionCharacteristic often = catalog.getCouplingCriterionCharacteristicByNameAndCouplingCriterion("Often",
+                catalog.getCriterionByName(CouplingCriterion.STRUCTURAL_VOLATILITY));
+        CouplingInstance characteristic = new CouplingInstance(often, InstanceType.CHARACTERISTIC);
+
+        // when
+        for (CouplingInstance instance : Arrays.asList(useCase, sharedOwner, latencyUseCase, characteristic)) {
+            context.addCouplingInstance(instance);
+        }
+        context.removeCouplingInstance(sharedOwner);
+
+        // then
+        assertEquals(Arrays.asList(useCase, latencyUseCase, characteristic), context.getCouplingInstances());
+        assertEquals(Arrays.asList(useCase, latencyUseCase), context.getCouplingInstancesByCriterion(CouplingCriterion.SEMANTIC_PROXIMITY));
+        assertEquals(Collections.singletonList(latencyUseCase), context.getCouplingInstancesByType(InstanceType.LATENCY_USE_CASE));
+        assertEquals(Collections.singletonList(characteristic), context.getCouplingInstancesByCouplingType(CouplingType.COMPATIBILITY));
+        assertEquals(Collections.singletonList(characteristic), context.getCouplingInstancesByCharacteristic(often));
+        assertTrue(context.getCouplingInstancesByCriterion(CouplingCriterion.SHARED_OWNER).isEmpty());
+        assertEquals(Arrays.asList(CouplingCriterion.SEMANTIC_PROXIMITY, CouplingCriterion.STRUCTURAL_VOLATILITY),
+                new ArrayList<>(context.getCouplingInstancesGroupedByCriterion().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> context.getCouplingInstances().add(sharedOwner));
+    }
+
+    private Nanoentity createNanoentity(final String context, final String name) {
+        Nanoentity nanoentity = new Nanoentity(name);
+        nanoentity.setContext(context);
+        return nanoentity;
+    }
+
+}
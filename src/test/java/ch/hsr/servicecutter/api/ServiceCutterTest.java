@@ -17,6 +17,9 @@ package ch.hsr.servicecutter.api;
 
 import ch.hsr.servicecutter.api.model.SolverResult;
 import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.InstanceType;
+import ch.hsr.servicecutter.scorer.ScoreMatrix;
 import ch.hsr.servicecutter.solver.SolverAlgorithm;
 import ch.hsr.servicecutter.solver.SolverConfiguration;
 import ch.hsr.servicecutter.solver.SolverPriority;
@@ -29,6 +32,8 @@ import java.io.File;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ServiceCutterTest {
@@ -122,6 +127,31 @@ public class ServiceCutterTest {
         assertTrue(result.getServices().size() > 0);
     }
 
+    @Test
+    public void reusesScoresForChangedPriorities() throws IOException {
+        // given
+        EntityRelationDiagramImporterJSON erdImporterJSON = new EntityRelationDiagramImporterJSON();
+        UserRepresentationContainerImporterJSON urImporterJSON = new UserRepresentationContainerImporterJSON();
+        ServiceCutterContext context = new ServiceCutterContextBuilder(erdImporterJSON.createERDFromJSONFile(new File("./src/test/resources/booking_1_model.json")))
+                .withUserRepresentations(urImporterJSON.createUserRepresentationContainerFromJSONFile(new File("./src/test/resources/booking_2_user_representations.json"))).build();
+        context.getSolverConfiguration().setAlgorithm(SolverAlgorithm.MARKOV_CLUSTERING);
+        ServiceCutter serviceCutter = new ServiceCutter(context);
+        serviceCutter.generateDecomposition();
+        ScoreMatrix scores = serviceCutter.getScoreMatrix();
+
+        // when
+        context.getSolverConfiguration().setPriority(CouplingCriterion.SEMANTIC_PROXIMITY, SolverPriority.XXL);
+        SolverResult result = serviceCutter.generateDecomposition();
+
+        // then
+        assertSame(scores, serviceCutter.getScoreMatrix());
+        SolverResult expected = new ServiceCutter(context).generateDecomposition();
+        assertEquals(expected.getServices().size(), result.getServices().size());
+        assertEquals(expected.getRelations().size(), result.getRelations().size());
+        context.addCouplingInstance(new CouplingInstance(context.getCriteriaCatalog().getCriterionByName(CouplingCriterion.SHARED_OWNER), InstanceType.RELATED_GROUP));
+        assertNotSame(scores, serviceCutter.getScoreMatrix());
+    }
+
     @Test
     public void createEmptyResultForConfigurationWithoutPriorities() throws IOException {
         // given
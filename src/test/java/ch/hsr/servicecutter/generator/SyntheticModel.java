@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.generator;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.ServiceCutterContextBuilder;
+import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
+import ch.hsr.servicecutter.api.model.UserRepresentationContainer;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Model created by the {@link SyntheticModelGenerator}.
+ */
+public class SyntheticModel {
+
+    private final EntityRelationDiagram entityRelationDiagram;
+    private final UserRepresentationContainer userRepresentations;
+
+    public SyntheticModel(final EntityRelationDiagram entityRelationDiagram, final UserRepresentationContainer userRepresentations) {
+        this.entityRelationDiagram = entityRelationDiagram;
+        this.userRepresentations = userRepresentations;
+    }
+
+    public EntityRelationDiagram getEntityRelationDiagram() {
+        return entityRelationDiagram;
+    }
+
+    public UserRepresentationContainer getUserRepresentations() {
+        return userRepresentations;
+    }
+
+    public ServiceCutterContext createContext() {
+        return new ServiceCutterContextBuilder(entityRelationDiagram).withUserRepresentations(userRepresentations).build();
+    }
+
+    /**
+     * Writes the diagram in the format read by {@link ch.hsr.servicecutter.api.EntityRelationDiagramImporterJSON}.
+     */
+    public void writeEntityRelationDiagram(final File file) throws IOException {
+        createObjectMapper().writeValue(file, entityRelationDiagram);
+    }
+
+    /**
+     * Writes the user representations in the format read by
+     * {@link ch.hsr.servicecutter.api.UserRepresentationContainerImporterJSON}.
+     */
+    public void writeUserRepresentations(final File file) throws IOException {
+        createObjectMapper().writeValue(file, userRepresentations);
+    }
+
+    private ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        return objectMapper;
+    }
+
+}
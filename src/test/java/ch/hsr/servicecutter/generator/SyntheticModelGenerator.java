@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.generator;
+
+import ch.hsr.servicecutter.api.model.Characteristic;
+import ch.hsr.servicecutter.api.model.Compatibilities;
+import ch.hsr.servicecutter.api.model.Entity;
+import ch.hsr.servicecutter.api.model.EntityRelation;
+import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
+import ch.hsr.servicecutter.api.model.RelatedGroup;
+import ch.hsr.servicecutter.api.model.UseCase;
+import ch.hsr.servicecutter.api.model.UserRepresentationContainer;
+import ch.hsr.servicecutter.model.criteria.CouplingCriteriaCatalog;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Generates synthetic models (entity relation diagram and user representations) of configurable size and shape for
+ * scale tests and benchmarks. The generation is deterministic for a given seed.
+ * <p>
+ * Entities are placed on a line and relations, use cases and related groups only connect entities which are close to
+ * each other, so that the models contain clusters. Relations always point to an entity placed before the origin, so
+ * that compositions and inheritances are free of cycles.
+ */
+public class SyntheticModelGenerator {
+
+    private static final int NEIGHBOURHOOD = 3;
+    private static final Map<String, BiConsumer<Compatibilities, List<Characteristic>>> COMPATIBILITIES = new LinkedHashMap<>();
+
+    static {
+        COMPATIBILITIES.put(CouplingCriterion.CONTENT_VOLATILITY, Compatibilities::setContentVolatility);
+        COMPATIBILITIES.put(CouplingCriterion.STRUCTURAL_VOLATILITY, Compatibilities::setStructuralVolatility);
+        COMPATIBILITIES.put(CouplingCriterion.AVAILABILITY, Compatibilities::setAvailabilityCriticality);
+        COMPATIBILITIES.put(CouplingCriterion.CONSISTENCY, Compatibilities::setConsistencyCriticality);
+        COMPATIBILITIES.put(CouplingCriterion.STORAGE_SIMILARITY, Compatibilities::setStorageSimilarity);
+        COMPATIBILITIES.put(CouplingCriterion.SECURITY_CRITICALITY, Compatibilities::setSecurityCriticality);
+    }
+
+    private long seed = 1L;
+    private int entityCount = 100;
+    private int nanoentitiesPerEntity = 8;
+    private double compositionRatio = 0.05d;
+    private double inheritanceRatio = 0.05d;
+    private double aggregationRatio = 0.2d;
+    private Integer useCaseCount;
+    private int useCaseFanOut = 8;
+    private double writeShare = 0.3d;
+    private double latencyCriticalShare = 0.1d;
+    private int relatedGroupSize = 10;
+    private final Map<String, Integer> relatedGroupCounts = new HashMap<>();
+    private double characteristicCoverage = 0.5d;
+    private final Map<String, double[]> characteristicDistributions = new HashMap<>();
+
+    public SyntheticModelGenerator withSeed(final long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public SyntheticModelGenerator withEntities(final int entityCount, final int nanoentitiesPerEntity) {
+        this.entityCount = entityCount;
+        this.nanoentitiesPerEntity = nanoentitiesPerEntity;
+        return this;
+    }
+
+    /**
+     * Sets the share of the entities which are the origin of a composition, inheritance or aggregation.
+     */
+    public SyntheticModelGenerator withRelationRatios(final double compositionRatio, final double inheritanceRatio, final double aggregationRatio) {
+        if (compositionRatio + inheritanceRatio + aggregationRatio > 1d) {
+            throw new IllegalArgumentException("The relation ratios must not sum up to more than 1.");
+        }
+        this.compositionRatio = compositionRatio;
+        this.inheritanceRatio = inheritanceRatio;
+        this.aggregationRatio = aggregationRatio;
+        return this;
+    }
+
+    /**
+     * @param fanOut
+     *            the number of nanoentities a use case reads or writes
+     * @param writeShare
+     *            the share of these nanoentities which are written
+     */
+    public SyntheticModelGenerator withUseCases(final int useCaseCount, final int fanOut, final double writeShare, final double latencyCriticalShare) {
+        this.useCaseCount = useCaseCount;
+        this.useCaseFanOut = fanOut;
+        this.writeShare = writeShare;
+        this.latencyCriticalShare = latencyCriticalShare;
+        return this;
+    }
+
+    /**
+     * Sets the number of nanoentities of all related groups (shared owner groups, aggregates, predefined services,
+     * security zones and access groups).
+     */
+    public SyntheticModelGenerator withRelatedGroupSize(final int relatedGroupSize) {
+        this.relatedGroupSize = relatedGroupSize;
+        return this;
+    }
+
+    /**
+     * @param criterion
+     *            one of {@link CouplingCriterion#SHARED_OWNER}, {@link CouplingCriterion#IDENTITY_LIFECYCLE}
+     *            (aggregates), {@link CouplingCriterion#PREDEFINED_SERVICE}, {@link CouplingCriterion#SECURITY_CONSTRAINT}
+     *            (separated security zones) or {@link CouplingCriterion#SECURITY_CONTEXUALITY} (security access groups)
+     */
+    public SyntheticModelGenerator withRelatedGroups(final String criterion, final int count) {
+        relatedGroupCounts.put(criterion, count);
+        return this;
+    }
+
+    /**
+     * Sets the share of the nanoentities which get a characteristic for every compatibility criterion; the others are
+     * completed with the default characteristic.
+     */
+    public SyntheticModelGenerator withCharacteristicCoverage(final double coverage) {
+        this.characteristicCoverage = coverage;
+        return this;
+    }
+
+    /**
+     * @param shares
+     *            the relative frequency of every characteristic of the criterion, in the order of the
+     *            {@link CouplingCriteriaCatalog}
+     */
+    public SyntheticModelGenerator withCharacteristicDistribution(final String criterion, final double... shares) {
+        if (!COMPATIBILITIES.containsKey(criterion)) {
+            throw new IllegalArgumentException(criterion + " is not a compatibility criterion.");
+        }
+        int characteristicCount = CouplingCriteriaCatalog.getDefault().getCouplingCriteriaCharacteristics4CriterionName(criterion).size();
+        if (shares.length != characteristicCount) {
+            throw new IllegalArgumentException(criterion + " has " + characteristicCount + " characteristics, but " + shares.length + " shares are given.");
+        }
+        if (Arrays.stream(shares).anyMatch(share -> share < 0d)) {
+            throw new IllegalArgumentException("The shares must not be negative.");
+        }
+        characteristicDistributions.put(criterion, shares.clone());
+        return this;
+    }
+
+    public SyntheticModel generate() {
+        Random random = new Random(seed);
+        EntityRelationDiagram diagram = generateEntityRelationDiagram(random);
+
+        UserRepresentationContainer userRepresentations = new UserRepresentationContainer();
+        userRepresentations.setUseCases(generateUseCases(random));
+        userRepresentations.setSharedOwnerGroups(generateRelatedGroups(random, CouplingCriterion.SHARED_OWNER, entityCount / 20));
+        userRepresentations.setAggregates(generateRelatedGroups(random, CouplingCriterion.IDENTITY_LIFECYCLE, entityCount / 20));
+        userRepresentations.setPredefinedServices(generateRelatedGroups(random, CouplingCriterion.PREDEFINED_SERVICE, 0));
+        userRepresentations.setSeparatedSecurityZones(generateRelatedGroups(random, CouplingCriterion.SECURITY_CONSTRAINT, 0));
+        userRepresentations.setSecurityAccessGroups(generateRelatedGroups(random, CouplingCriterion.SECURITY_CONTEXUALITY, entityCount / 20));
+        userRepresentations.setCompatibilities(generateCompatibilities(random));
+        return new SyntheticModel(diagram, userRepresentations);
+    }
+
+    private EntityRelationDiagram generateEntityRelationDiagram(final Random random) {
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            Entity entity = new Entity(entityName(i));
+            List<String> nanoentities = new ArrayList<>();
+            for (int j = 0; j < nanoentitiesPerEntity; j++) {
+                nanoentities.add(attributeName(j));
+            }
+            entity.setNanoentities(nanoentities);
+            entities.add(entity);
+        }
+
+        List<EntityRelation> relations = new ArrayList<>();
+        for (int i = 1; i < entityCount; i++) {
+            double draw = random.nextDouble();
+            EntityRelation.RelationType type;
+            if (draw < compositionRatio) {
+                type = EntityRelation.RelationType.COMPOSITION;
+            } else if (draw < compositionRatio + inheritanceRatio) {
+                type = EntityRelation.RelationType.INHERITANCE;
+            } else if (draw < compositionRatio + inheritanceRatio + aggregationRatio) {
+                type = EntityRelation.RelationType.AGGREGATION;
+            } else {
+                continue;
+            }
+            EntityRelation relation = new EntityRelation();
+            relation.setOrigin(entities.get(i));
+            relation.setDestination(entities.get(Math.max(0, i - 1 - random.nextInt(NEIGHBOURHOOD))));
+            relation.setType(type);
+            relations.add(relation);
+        }
+
+        EntityRelationDiagram diagram = new EntityRelationDiagram();
+        diagram.setName("Synthetic" + entityCount + "x" + nanoentitiesPerEntity);
+        diagram.setEntities(entities);
+        diagram.setRelations(relations);
+        return diagram;
+    }
+
+    private List<UseCase> generateUseCases(final Random random) {
+        int count = useCaseCount != null ? useCaseCount : entityCount;
+        List<UseCase> useCases = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<String> read = new ArrayList<>();
+            List<String> written = new ArrayList<>();
+            for (String nanoentity : nanoentitiesAround(random, random.nextInt(entityCount), useCaseFanOut)) {
+                (random.nextDouble() < writeShare ? written : read).add(nanoentity);
+            }
+            UseCase useCase = new UseCase();
+            useCase.setName("UseCase" + i);
+            useCase.setNanoentitiesRead(read);
+            useCase.setNanoentitiesWritten(written);
+            useCase.setLatencyCritical(random.nextDouble() < latencyCriticalShare);
+            useCases.add(useCase);
+        }
+        return useCases;
+    }
+
+    private List<RelatedGroup> generateRelatedGroups(final Random random, final String criterion, final int defaultCount) {
+        int count = relatedGroupCounts.getOrDefault(criterion, defaultCount);
+        List<RelatedGroup> groups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RelatedGroup group = new RelatedGroup();
+            group.setName(criterion.replace(" ", "") + i);
+            group.setNanoentities(new ArrayList<>(nanoentitiesAround(random, random.nextInt(entityCount), relatedGroupSize)));
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    private Compatibilities generateCompatibilities(final Random random) {
+        CouplingCriteriaCatalog catalog = CouplingCriteriaCatalog.getDefault();
+        Compatibilities compatibilities = new Compatibilities();
+        for (Map.Entry<String, BiConsumer<Compatibilities, List<Characteristic>>> compatibility : COMPATIBILITIES.entrySet()) {
+            List<CouplingCriterionCharacteristic> characteristics = catalog.getCouplingCriteriaCharacteristics4CriterionName(compatibility.getKey());
+            double[] shares = characteristicDistributions.get(compatibility.getKey());
+            if (shares == null) {
+                shares = new double[characteristics.size()];
+                Arrays.fill(shares, 1d);
+            }
+            Map<String, List<String>> nanoentitiesByCharacteristic = new LinkedHashMap<>();
+            for (int entity = 0; entity < entityCount; entity++) {
+                for (int attribute = 0; attribute < nanoentitiesPerEntity; attribute++) {
+                    if (random.nextDouble() < characteristicCoverage) {
+                        String characteristic = characteristics.get(draw(random, shares)).getName();
+                        nanoentitiesByCharacteristic.computeIfAbsent(characteristic, name -> new ArrayList<>()).add(nanoentityName(entity, attribute));
+                    }
+                }
+            }
+            List<Characteristic> result = new ArrayList<>();
+            for (Map.Entry<String, List<String>> nanoentities : nanoentitiesByCharacteristic.entrySet()) {
+                Characteristic characteristic = new Characteristic();
+                characteristic.setCharacteristic(nanoentities.getKey());
+                characteristic.setNanoentities(nanoentities.getValue());
+                result.add(characteristic);
+            }
+            compatibility.getValue().accept(compatibilities, result);
+        }
+        return compatibilities;
+    }
+
+    /**
+     * Picks distinct nanoentities of the entities around the given one.
+     */
+    private Set<String> nanoentitiesAround(final Random random, final int entity, final int count) {
+        int from = Math.max(0, entity - NEIGHBOURHOOD);
+        int to = Math.min(entityCount - 1, entity + NEIGHBOURHOOD);
+        int available = (to - from + 1) * nanoentitiesPerEntity;
+        Set<String> nanoentities = new LinkedHashSet<>();
+        while (nanoentities.size() < Math.min(count, available)) {
+            nanoentities.add(nanoentityName(from + random.nextInt(to - from + 1), random.nextInt(nanoentitiesPerEntity)));
+        }
+        return nanoentities;
+    }
+
+    private static int draw(final Random random, final double[] shares) {
+        double total = 0d;
+        for (double share : shares) {
+            total += share;
+        }
+        double value = random.nextDouble() * total;
+        for (int i = 0; i < shares.length - 1; i++) {
+            value -= shares[i];
+            if (value < 0d) {
+                return i;
+            }
+        }
+        return shares.length - 1;
+    }
+
+    private static String nanoentityName(final int entity, final int attribute) {
+        return entityName(entity) + "." + attributeName(attribute);
+    }
+
+    private static String entityName(final int entity) {
+        return "Entity" + entity;
+    }
+
+    private static String attributeName(final int attribute) {
+        return "attribute" + attribute;
+    }
+
+}
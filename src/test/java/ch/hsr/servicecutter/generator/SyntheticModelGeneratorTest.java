@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.generator;
+
+import ch.hsr.servicecutter.api.EntityRelationDiagramImporterJSON;
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.ServiceCutterContextBuilder;
+import ch.hsr.servicecutter.api.UserRepresentationContainerImporterJSON;
+import ch.hsr.servicecutter.api.model.EntityRelation;
+import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
+import ch.hsr.servicecutter.api.model.UserRepresentationContainer;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SyntheticModelGeneratorTest {
+
+    private static final String TEST_GEN_DIR = "./src-gen";
+
+    @BeforeEach
+    public void prepare() {
+        if (!new File(TEST_GEN_DIR).exists())
+            new File(TEST_GEN_DIR).mkdir();
+    }
+
+    @Test
+    public void generatesSameModelForSameSeed() throws IOException {
+        // given
+        SyntheticModelGenerator generator = new SyntheticModelGenerator().withSeed(7L).withEntities(50, 6);
+        File first = new File(TEST_GEN_DIR, "synthetic_first.json");
+        File second = new File(TEST_GEN_DIR, "synthetic_second.json");
+
+        // when
+        generator.generate().writeUserRepresentations(first);
+        generator.generate().writeUserRepresentations(second);
+
+        // then
+        assertArrayEquals(Files.readAllBytes(first.toPath()), Files.readAllBytes(second.toPath()));
+    }
+
+    @Test
+    public void relationsArePointingBackwards() {
+        // when
+        EntityRelationDiagram diagram = new SyntheticModelGenerator().withEntities(200, 4).withRelationRatios(0.3d, 0.3d, 0.4d).generate()
+                .getEntityRelationDiagram();
+
+        // then
+        assertEquals(199, diagram.getRelations().size());
+        for (EntityRelation relation : diagram.getRelations()) {
+            assertTrue(diagram.getEntities().indexOf(relation.getDestination()) < diagram.getEntities().indexOf(relation.getOrigin()));
+        }
+    }
+
+    @Test
+    public void canImportWrittenModel() throws IOException {
+        // given
+        SyntheticModel model = new SyntheticModelGenerator().withSeed(3L).withEntities(40, 5).withUseCases(30, 6, 0.5d, 0.2d)
+                .withRelatedGroups(CouplingCriterion.PREDEFINED_SERVICE, 2).withRelatedGroups(CouplingCriterion.SECURITY_CONSTRAINT, 2)
+                .withCharacteristicDistribution(CouplingCriterion.STRUCTURAL_VOLATILITY, 1d, 0d, 0d).generate();
+        File diagramFile = new File(TEST_GEN_DIR, "synthetic_model.json");
+        File userRepresentationsFile = new File(TEST_GEN_DIR, "synthetic_user_representations.json");
+
+        // when
+        model.writeEntityRelationDiagram(diagramFile);
+        model.writeUserRepresentations(userRepresentationsFile);
+        EntityRelationDiagram diagram = new EntityRelationDiagramImporterJSON().createERDFromJSONFile(diagramFile);
+        UserRepresentationContainer userRepresentations = new UserRepresentationContainerImporterJSON()
+                .createUserRepresentationContainerFromJSONFile(userRepresentationsFile);
+        ServiceCutterContext context = new ServiceCutterContextBuilder(diagram).withUserRepresentations(userRepresentations).build();
+
+        // then
+        assertEquals(200, context.getNanoEntities().size());
+        assertEquals(model.getEntityRelationDiagram().getRelations().size(), diagram.getRelations().size());
+        assertEquals(30, userRepresentations.getUseCases().size());
+        assertEquals(2, userRepresentations.getPredefinedServices().size());
+        assertEquals(1, userRepresentations.getCompatibilities().getStructuralVolatility().size());
+        assertEquals(model.createContext().getCouplingInstances().size(), context.getCouplingInstances().size());
+        for (String criterion : Arrays.asList(CouplingCriterion.PREDEFINED_SERVICE, CouplingCriterion.SECURITY_CONSTRAINT, CouplingCriterion.SHARED_OWNER)) {
+            assertTrue(context.getCouplingInstances().stream().map(CouplingInstance::getCouplingCriterion).anyMatch(c -> criterion.equals(c.getName())));
+        }
+    }
+
+    @Test
+    public void rejectsCharacteristicDistributionNotMatchingCriterion() {
+        // given
+        SyntheticModelGenerator generator = new SyntheticModelGenerator();
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> generator.withCharacteristicDistribution(CouplingCriterion.STRUCTURAL_VOLATILITY, 1d, 1d));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCharacteristicDistribution(CouplingCriterion.STRUCTURAL_VOLATILITY, 1d, 1d, 1d, 1d));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCharacteristicDistribution(CouplingCriterion.STRUCTURAL_VOLATILITY, 1d, -1d, 1d));
+    }
+
+}
@@ -17,10 +17,16 @@ package ch.hsr.servicecutter.model;
 
 import ch.hsr.servicecutter.model.criteria.CouplingCriteriaCatalog;
 import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
 import org.junit.jupiter.api.Test;
 
+import java.util.NoSuchElementException;
+
 import static ch.hsr.servicecutter.model.criteria.CouplingCriterion.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CouplingCriteriaCatalogTest {
 
@@ -60,4 +66,24 @@ public class CouplingCriteriaCatalogTest {
         assertEquals(3, catalog.getCouplingCriteriaCharacteristics4CriterionName(SECURITY_CRITICALITY).size());
     }
 
+    @Test
+    public void canFindCharacteristicsByNameAndDefault() {
+        // given
+        CouplingCriteriaCatalog catalog = CouplingCriteriaCatalog.getDefault();
+        CouplingCriterion storageSimilarity = catalog.getCriterionByName(STORAGE_SIMILARITY);
+
+        // when
+        CouplingCriterionCharacteristic huge = catalog.getCouplingCriterionCharacteristicByNameAndCouplingCriterion("Huge", storageSimilarity);
+        CouplingCriterionCharacteristic normal = catalog.getCouplingCriterionCharacteristicByCouplingCriterionAndIsDefault(storageSimilarity);
+
+        // then
+        assertEquals(10, huge.getWeight().intValue());
+        assertEquals("Normal", normal.getName());
+        assertTrue(normal.isDefault());
+        assertSame(normal, catalog.getCouplingCriteriaCharacteristics4CriterionName(STORAGE_SIMILARITY).get(1));
+        assertTrue(catalog.getCouplingCriteriaCharacteristics4CriterionName(LATENCY).isEmpty());
+        assertThrows(NoSuchElementException.class, () -> catalog.getCouplingCriterionCharacteristicByNameAndCouplingCriterion("Often", storageSimilarity));
+        assertThrows(NoSuchElementException.class, () -> catalog.getCouplingCriterionCharacteristicByCouplingCriterionAndIsDefault(catalog.getCriterionByName(LATENCY)));
+    }
+
 }
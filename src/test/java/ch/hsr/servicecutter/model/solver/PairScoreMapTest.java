@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.model.solver;
+
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PairScoreMapTest {
+
+    @Test
+    public void keyIsIndependentOfOrder() {
+        // when
+        long key = EntityPairKey.of(7, 3);
+
+        // then
+        assertEquals(EntityPairKey.of(3, 7), key);
+        assertEquals(3, EntityPairKey.first(key));
+        assertEquals(7, EntityPairKey.second(key));
+    }
+
+    @Test
+    public void canPutAndGetScoresBeyondInitialCapacity() {
+        // given
+        PairScoreMap map = new PairScoreMap();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i + 1, i);
+        }
+        map.put(1, 0, 42d);
+
+        // then
+        assertEquals(1000, map.size());
+        assertEquals(42d, map.get(0, 1));
+        assertEquals(999d, map.get(1000, 999));
+        assertTrue(map.containsKey(EntityPairKey.of(500, 501)));
+        assertFalse(map.containsKey(EntityPairKey.of(0, 2)));
+        assertEquals(-1d, map.get(EntityPairKey.of(0, 2), -1d));
+    }
+
+    @Test
+    public void canAddToScores() {
+        // given
+        PairScoreMap map = new PairScoreMap();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            map.addTo(i % 10, 10, 1.5d);
+        }
+
+        // then
+        assertEquals(10, map.size());
+        assertEquals(15d, map.get(3, 10));
+        assertEquals(16.5d, map.addTo(10, 3, 1.5d));
+    }
+
+    @Test
+    public void canRemoveScores() {
+        // given
+        PairScoreMap map = new PairScoreMap();
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i + 1, i);
+        }
+
+        // when
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove(EntityPairKey.of(i, i + 1));
+        }
+
+        // then
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? 0d : i, map.get(i, i + 1));
+        }
+    }
+
+    @Test
+    public void canConvertToEntityPairMap() {
+        // given
+        Nanoentity a = new Nanoentity("a");
+        Nanoentity b = new Nanoentity("b");
+        NanoentityRegistry registry = new NanoentityRegistry();
+        PairScoreMap map = new PairScoreMap();
+        map.put(registry.intern(b), registry.intern(a), 5d);
+
+        // when
+        Map<EntityPair, Double> result = map.toEntityPairMap(registry);
+
+        // then
+        assertEquals(1, result.size());
+        assertEquals(5d, result.get(new EntityPair(a, b)));
+        assertEquals(5d, result.get(new EntityPair(b, a)));
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GroupScoreLayerTest {
+
+    @Test
+    public void scoresPairsSharingAGroupOnce() {
+        // given
+        GroupScoreLayer layer = new GroupScoreLayer(10d, Arrays.asList(new int[] { 0, 1, 2, 1 }, new int[] { 2, 1, 5 }), 6);
+
+        // when
+        PairScoreMap pairs = new PairScoreMap();
+        layer.forEach((idA, idB, score) -> pairs.addTo(idA, idB, score));
+
+        // then
+        assertEquals(5, layer.size());
+        assertEquals(5, pairs.size());
+        assertEquals(10d, pairs.get(1, 2));
+        assertEquals(10d, layer.get(2, 1));
+        assertEquals(10d, layer.get(5, 1));
+        assertEquals(0d, layer.get(0, 5));
+        assertEquals(0d, layer.get(1, 1));
+        assertEquals(0d, layer.get(3, 4));
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.model.solver.EntityPairKey;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreMatrixTest {
+
+    @Test
+    public void choosesStorageByFillRatio() {
+        // given
+        NanoentityRegistry registry = createRegistry(10);
+        PairScoreMap full = new PairScoreMap();
+        for (int a = 0; a < 10; a++) {
+            for (int b = a + 1; b < 10; b++) {
+                full.put(a, b, a + b);
+            }
+        }
+        PairScoreMap sparse = new PairScoreMap();
+        sparse.put(7, 2, -3d);
+        sparse.put(0, 9, 5d);
+        Map<String, PairScoreMap> scores = new LinkedHashMap<>();
+        scores.put("full", full);
+        scores.put("sparse", sparse);
+
+        // when
+        ScoreMatrix matrix = ScoreMatrix.of(registry, scores);
+
+        // then
+        assertTrue(matrix.getLayer("full") instanceof DenseScoreLayer);
+        assertTrue(matrix.getLayer("sparse") instanceof SparseScoreLayer);
+        assertEquals(45, matrix.getLayer("full").size());
+        assertEquals(2, matrix.getLayer("sparse").size());
+        assertEquals(13d, matrix.getScore("full", 9, 4));
+        assertEquals(-3d, matrix.getScore("sparse", 2, 7));
+        assertEquals(5d, matrix.getScore("sparse", 9, 0));
+        assertEquals(0d, matrix.getScore("sparse", 1, 2));
+        assertEquals(0d, matrix.getScore("unknown", 1, 2));
+    }
+
+    @Test
+    public void sparseLayerIteratesAllPairs() {
+        // given
+        PairScoreMap scores = new PairScoreMap();
+        for (int i = 0; i < 50; i++) {
+            scores.put(i, (i * 7 + 3) % 100, i + 1);
+        }
+
+        // when
+        SparseScoreLayer layer = new SparseScoreLayer(scores, 100);
+        PairScoreMap iterated = new PairScoreMap();
+        layer.forEach((idA, idB, score) -> {
+            assertTrue(idA < idB);
+            iterated.put(idA, idB, score);
+        });
+
+        // then
+        assertEquals(scores.size(), iterated.size());
+        scores.forEach((idA, idB, score) -> {
+            assertEquals(score, iterated.get(EntityPairKey.of(idA, idB)));
+            assertEquals(score, layer.get(idB, idA));
+        });
+    }
+
+    @Test
+    public void canSumUpPrioritizedScores() {
+        // given
+        NanoentityRegistry registry = createRegistry(3);
+        PairScoreMap first = new PairScoreMap();
+        first.put(0, 1, 10d);
+        PairScoreMap second = new PairScoreMap();
+        second.put(0, 1, -2d);
+        second.put(1, 2, 4d);
+        Map<String, PairScoreMap> scores = new LinkedHashMap<>();
+        scores.put("first", first);
+        scores.put("second", second);
+        ScoreMatrix matrix = ScoreMatrix.of(registry, scores);
+
+        // when
+        PairScoreMap weights = matrix.getWeightedScores(criterion -> "first".equals(criterion) ? 3d : 0.5d);
+
+        // then
+        assertEquals(29d, weights.get(0, 1));
+        assertEquals(2d, weights.get(1, 2));
+        assertEquals(2, matrix.toEntityPairScores(criterion -> 1d).size());
+    }
+
+    @Test
+    public void positiveWeightsSkipImpliedPenalties() {
+        // given
+        NanoentityRegistry registry = createRegistry(6);
+        Map<String, ScoreLayer> layers = new LinkedHashMap<>();
+        layers.put("exclusive", new ExclusiveGroupScoreLayer(10d, -10d, Arrays.asList(new int[] { 0, 1, 2 }, new int[] { 2, 3 }), 6));
+        PairScoreMap other = new PairScoreMap();
+        other.put(0, 4, 8d);
+        other.put(4, 5, 1d);
+        other.put(2, 3, -1d);
+        layers.put("other", ScoreMatrix.createLayer(other, 6));
+        ScoreMatrix matrix = new ScoreMatrix(registry, layers);
+
+        // when
+        PairScoreMap weights = matrix.getPositiveWeightedScores(criterion -> "other".equals(criterion) ? 2d : 1d);
+
+        // then
+        PairScoreMap expected = new PairScoreMap();
+        matrix.getWeightedScores(criterion -> "other".equals(criterion) ? 2d : 1d).forEach((idA, idB, weight) -> {
+            if (weight > 0d) {
+                expected.put(idA, idB, weight);
+            }
+        });
+        assertEquals(expected.size(), weights.size());
+        expected.forEach((idA, idB, weight) -> assertEquals(weight, weights.get(idA, idB)));
+        assertEquals(6d, weights.get(0, 4));
+        assertEquals(8d, weights.get(2, 3));
+        assertFalse(weights.containsKey(EntityPairKey.of(1, 2)));
+    }
+
+    private NanoentityRegistry createRegistry(final int size) {
+        NanoentityRegistry registry = new NanoentityRegistry();
+        for (int i = 0; i < size; i++) {
+            registry.intern(new Nanoentity("n" + i));
+        }
+        return registry;
+    }
+
+}
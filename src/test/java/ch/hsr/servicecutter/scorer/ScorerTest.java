@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.api.EntityRelationDiagramImporterJSON;
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.ServiceCutterContextBuilder;
+import ch.hsr.servicecutter.api.UserRepresentationContainerImporterJSON;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.criteria.CouplingType;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.criterionScorer.CharacteristicsCriteriaScorer;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScorerTest {
+
+    @Test
+    public void parallelScoringEqualsSequentialScoring() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("ddd");
+        Scorer sequentialScorer = new Scorer(context.getCouplingInstances(), context.getNanoentityRegistry());
+        Scorer parallelScorer = new Scorer(context.getCouplingInstances(), context.getNanoentityRegistry());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        parallelScorer.setForkJoinPool(pool);
+
+        // when
+        ScoreMatrix sequential = sequentialScorer.getScoreMatrix();
+        ScoreMatrix parallel = parallelScorer.getScoreMatrix();
+        pool.shutdown();
+
+        // then
+        assertEquals(sequential.getCriteria(), parallel.getCriteria());
+        for (String criterion : sequential.getCriteria()) {
+            assertEquals(sequential.getLayer(criterion).size(), parallel.getLayer(criterion).size());
+            sequential.getLayer(criterion).forEach((idA, idB, score) -> assertEquals(score, parallel.getScore(criterion, idA, idB)));
+        }
+        PairScoreMap weights = parallel.getWeightedScores(criterion -> 1d);
+        assertFalse(weights.isEmpty());
+    }
+
+    @Test
+    public void characteristicLayersEqualMaterializedScores() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("trading");
+        NanoentityRegistry registry = context.getNanoentityRegistry();
+        Map<String, Set<CouplingInstance>> characteristics = context.findCouplingInstancesGroupedByCriterionFilteredByCriterionType(CouplingType.COMPATIBILITY);
+
+        // when
+        ScoreMatrix matrix = new Scorer(context.getCouplingInstances(), registry).getScoreMatrix();
+
+        // then
+        assertEquals(6, characteristics.size());
+        for (Map.Entry<String, Set<CouplingInstance>> criterion : characteristics.entrySet()) {
+            ScoreLayer layer = matrix.getLayer(criterion.getKey());
+            PairScoreMap materialized = new CharacteristicsCriteriaScorer().getScores(criterion.getValue(), registry);
+            assertTrue(layer instanceof CharacteristicScoreLayer);
+            assertEquals(materialized.size(), layer.size());
+            layer.forEach((idA, idB, score) -> assertEquals(materialized.get(idA, idB), score));
+        }
+    }
+
+    @Test
+    public void filteredScoringLeavesRejectedCriteriaEmpty() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("booking");
+        ScoreMatrix full = new Scorer(context.getCouplingInstances(), context.getNanoentityRegistry()).getScoreMatrix();
+
+        // when
+        ScoreMatrix filtered = new Scorer(context.getCouplingInstances(), context.getNanoentityRegistry())
+                .getScoreMatrix(criterion -> !CouplingCriterion.SEMANTIC_PROXIMITY.equals(criterion));
+
+        // then
+        assertEquals(full.getCriteria(), filtered.getCriteria());
+        assertTrue(full.getLayer(CouplingCriterion.SEMANTIC_PROXIMITY).size() > 0);
+        assertEquals(0, filtered.getLayer(CouplingCriterion.SEMANTIC_PROXIMITY).size());
+        assertEquals(full.getLayer(CouplingCriterion.PREDEFINED_SERVICE).size(), filtered.getLayer(CouplingCriterion.PREDEFINED_SERVICE).size());
+    }
+
+    private ServiceCutterContext createContext(final String model) throws IOException {
+        return new ServiceCutterContextBuilder(new EntityRelationDiagramImporterJSON().createERDFromJSONFile(new File("./src/test/resources/" + model + "_1_model.json")))
+                .withUserRepresentations(new UserRepresentationContainerImporterJSON()
+                        .createUserRepresentationContainerFromJSONFile(new File("./src/test/resources/" + model + "_2_user_representations.json")))
+                .build();
+    }
+
+}
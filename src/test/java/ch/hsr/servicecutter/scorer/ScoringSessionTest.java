@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.scorer;
+
+import ch.hsr.servicecutter.api.EntityRelationDiagramImporterJSON;
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.ServiceCutterContextBuilder;
+import ch.hsr.servicecutter.api.UserRepresentationContainerImporterJSON;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterion;
+import ch.hsr.servicecutter.model.criteria.CouplingCriterionCharacteristic;
+import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
+import ch.hsr.servicecutter.model.usersystem.InstanceType;
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScoringSessionTest {
+
+    @Test
+    public void canRemoveAndAddUseCase() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("trading");
+        ScoringSession session = new ScoringSession(context);
+        CouplingInstance useCase = findInstance(context, CouplingCriterion.SEMANTIC_PROXIMITY, InstanceType.USE_CASE);
+
+        // when
+        session.removeUseCase(useCase);
+
+        // then
+        assertSameScores(scoreFully(context), session.getScoreMatrix());
+
+        // when
+        session.addUseCase(useCase);
+
+        // then
+        assertSameScores(scoreFully(context), session.getScoreMatrix());
+    }
+
+    @Test
+    public void canUpdateRelatedGroups() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("booking");
+        ScoringSession session = new ScoringSession(context);
+        CouplingInstance securityAccessGroup = findInstance(context, CouplingCriterion.SECURITY_CONTEXUALITY, InstanceType.RELATED_GROUP);
+        CouplingInstance predefinedService = findInstance(context, CouplingCriterion.PREDEFINED_SERVICE, InstanceType.RELATED_GROUP);
+        List<Nanoentity> nanoentities = new ArrayList<>(context.getNanoentityRegistry().getNanoentities());
+
+        // when
+        session.updateRelatedGroup(securityAccessGroup, nanoentities.subList(0, 3));
+        session.updateRelatedGroup(predefinedService, nanoentities.subList(2, 5));
+
+        // then
+        assertSameScores(scoreFully(context), session.getScoreMatrix());
+    }
+
+    @Test
+    public void canReassignCharacteristic() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("trading");
+        ScoringSession session = new ScoringSession(context);
+        CouplingInstance volatilityInstance = findInstance(context, CouplingCriterion.STRUCTURAL_VOLATILITY, InstanceType.CHARACTERISTIC);
+        Nanoentity nanoentity = volatilityInstance.getNanoentities().get(0);
+        CouplingCriterionCharacteristic otherCharacteristic = context.getCriteriaCatalog().getCouplingCriteriaCharacteristics4CriterionName(CouplingCriterion.STRUCTURAL_VOLATILITY)
+                .stream().filter(characteristic -> !characteristic.equals(volatilityInstance.getCharacteristic())).findFirst().get();
+
+        // when
+        session.reassignCharacteristic(nanoentity, otherCharacteristic);
+
+        // then
+        assertSameScores(scoreFully(context), session.getScoreMatrix());
+    }
+
+    @Test
+    public void rejectsUpdateOfCharacteristic() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("trading");
+        ScoringSession session = new ScoringSession(context);
+        CouplingInstance volatilityInstance = findInstance(context, CouplingCriterion.STRUCTURAL_VOLATILITY, InstanceType.CHARACTERISTIC);
+        List<Nanoentity> nanoentities = new ArrayList<>(context.getNanoentityRegistry().getNanoentities());
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> session.updateRelatedGroup(volatilityInstance, nanoentities.subList(0, 3)));
+        assertSameScores(scoreFully(context), session.getScoreMatrix());
+    }
+
+    @Test
+    public void rejectsUpdateOfOtherInstancesThanRelatedGroups() throws IOException {
+        // given
+        ServiceCutterContext context = createContext("booking");
+        ScoringSession session = new ScoringSession(context);
+        CouplingInstance useCase = findInstance(context, CouplingCriterion.SEMANTIC_PROXIMITY, InstanceType.USE_CASE);
+        List<Nanoentity> nanoentities = new ArrayList<>(context.getNanoentityRegistry().getNanoentities());
+
+        // then
+        assertThrows(IllegalArgumentException.class, () -> session.updateRelatedGroup(useCase, nanoentities.subList(0, 3)));
+        assertSameScores(scoreFully(context), session.getScoreMatrix());
+    }
+
+    private void assertSameScores(final ScoreMatrix expected, final ScoreMatrix actual) {
+        assertEquals(new ArrayList<>(expected.getCriteria()), new ArrayList<>(actual.getCriteria()));
+        for (String criterion : expected.getCriteria()) {
+            assertEquals(expected.getLayer(criterion).size(), actual.getLayer(criterion).size(), criterion);
+            expected.getLayer(criterion).forEach((idA, idB, score) -> assertEquals(score, actual.getScore(criterion, idA, idB), criterion));
+        }
+    }
+
+    private ScoreMatrix scoreFully(final ServiceCutterContext context) {
+        return new Scorer(context.getCouplingInstances(), context.getNanoentityRegistry()).getScoreMatrix();
+    }
+
+    private CouplingInstance findInstance(final ServiceCutterContext context, final String criterion, final InstanceType type) {
+        return context.getCouplingInstances().stream().filter(instance -> criterion.equals(instance.getCouplingCriterion().getName()) && type.equals(instance.getType()))
+                .findFirst().get();
+    }
+
+    private ServiceCutterContext createContext(final String model) throws IOException {
+        return new ServiceCutterContextBuilder(new EntityRelationDiagramImporterJSON().createERDFromJSONFile(new File("./src/test/resources/" + model + "_1_model.json")))
+                .withUserRepresentations(new UserRepresentationContainerImporterJSON()
+                        .createUserRepresentationContainerFromJSONFile(new File("./src/test/resources/" + model + "_2_user_representations.json")))
+                .build();
+    }
+
+}
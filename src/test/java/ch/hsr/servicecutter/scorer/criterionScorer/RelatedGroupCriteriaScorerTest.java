@@ -1,13 +1,22 @@
 package ch.hsr.servicecutter.scorer.criterionScorer;
 
 import ch.hsr.servicecutter.model.solver.EntityPair;
+import ch.hsr.servicecutter.model.solver.PairScoreMap;
 import ch.hsr.servicecutter.model.usersystem.CouplingInstance;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import ch.hsr.servicecutter.model.usersystem.NanoentityRegistry;
+import ch.hsr.servicecutter.scorer.ExclusiveGroupScoreLayer;
+import ch.hsr.servicecutter.scorer.ScoreLayer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -72,6 +81,34 @@ public class RelatedGroupCriteriaScorerTest {
 		assertThat(scores.get(new EntityPair(nanoentity3b, other)), is(equalTo(PENALTY)));
 	}
 
+	@Test
+	public void testImpliedPenaltiesEqualMaterializedScores() {
+		List<Nanoentity> nanoentities = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			nanoentities.add(createNanoEntity("n" + i));
+		}
+		Random random = new Random(7);
+		Set<CouplingInstance> groups = new LinkedHashSet<>();
+		for (int i = 0; i < 4; i++) {
+			CouplingInstance group = new CouplingInstance();
+			for (int j = 0; j < 4; j++) {
+				group.addNanoentity(nanoentities.get(random.nextInt(nanoentities.size())));
+			}
+			groups.add(group);
+		}
+		NanoentityRegistry registry = new NanoentityRegistry(nanoentities);
+		RelatedGroupCriteriaScorer scorer = new RelatedGroupCriteriaScorer(PENALTY, PREMIUM, nanoentities);
+
+		PairScoreMap materialized = scorer.getScores(groups, registry);
+		ScoreLayer layer = scorer.getScoreLayer(groups, registry);
+
+		assertThat(layer instanceof ExclusiveGroupScoreLayer, is(true));
+		materialized.forEach((idA, idB, score) -> assertThat(layer.get(idA, idB), is(equalTo(idA != idB ? score : 0d))));
+		PairScoreMap iterated = new PairScoreMap();
+		layer.forEach(iterated::put);
+		iterated.forEach((idA, idB, score) -> assertThat(materialized.get(idA, idB), is(equalTo(score))));
+	}
+
 	private Nanoentity createNanoEntity(final String name) {
 		Nanoentity nanoEntity = new Nanoentity(name);
 		return nanoEntity;
@@ -4,12 +4,14 @@ import ch.hsr.servicecutter.model.solver.EntityPair;
 import ch.hsr.servicecutter.model.usersystem.Nanoentity;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class SemanticProximityCriterionScorerTest {
 
@@ -27,6 +29,21 @@ public class SemanticProximityCriterionScorerTest {
 
 	}
 
+	@Test
+	public void testSelectionEqualsSorting() {
+		Random rand = new Random(42);
+		for (int length = 1; length <= 200; length++) {
+			double[] values = new double[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = rand.nextInt(length < 100 ? 5 : 1000);
+			}
+			double[] sorted = values.clone();
+			Arrays.sort(sorted);
+			int position = rand.nextInt(length);
+			assertEquals(sorted[position], SemanticProximityCriterionScorer.select(values.clone(), position));
+		}
+	}
+
 	private void testNumberOfMaxScores(final int numberOfEdges, final long numberOfExpectedMaxScores) {
 		SemanticProximityCriterionScorer sut = new SemanticProximityCriterionScorer();
 		Map<EntityPair, Double> input = new HashMap<>();
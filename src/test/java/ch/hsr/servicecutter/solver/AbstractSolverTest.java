@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.*;
+import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.api.model.UserRepresentationContainer;
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AbstractSolverTest {
+
+    @Test
+    public void canTraceScoresOfEdges() throws IOException {
+        // given
+        File erdFile = new File("./src/test/resources/booking_1_model.json");
+        File urFile = new File("./src/test/resources/booking_2_user_representations.json");
+        EntityRelationDiagram erd = new EntityRelationDiagramImporterJSON().createERDFromJSONFile(erdFile);
+        UserRepresentationContainer userRepresentations = new UserRepresentationContainerImporterJSON()
+                .createUserRepresentationContainerFromJSONFile(urFile);
+        SolverConfiguration config = new SolverConfigurationFactory().createDefaultConfiguration();
+        Map<String, Double> prioritizedScores = new HashMap<>();
+        List<Double> weights = new ArrayList<>();
+        config.setScoreTraceListener(new ScoreTraceListener() {
+            @Override
+            public void criterionScored(Nanoentity first, Nanoentity second, String criterion, double score, double priority) {
+                prioritizedScores.merge(first.getContextName() + "-" + second.getContextName(), score * priority, Double::sum);
+            }
+
+            @Override
+            public void edgeCreated(Nanoentity first, Nanoentity second, double weight) {
+                assertEquals(prioritizedScores.get(first.getContextName() + "-" + second.getContextName()), weight, 1e-9);
+                weights.add(weight);
+            }
+        });
+        ServiceCutterContext context = new ServiceCutterContextBuilder(erd)
+                .withUserRepresentations(userRepresentations)
+                .withCustomSolverConfiguration(config)
+                .build();
+
+        // when
+        SolverResult result = new ServiceCutter(context).generateDecomposition();
+
+        // then
+        assertEquals(3, result.getServices().size());
+        assertFalse(weights.isEmpty());
+        assertEquals(prioritizedScores.size(), weights.size());
+        assertTrue(weights.stream().allMatch(weight -> weight > 0d));
+    }
+
+    @Test
+    public void looksUpScoresOfTracedEdgesOnly() throws IOException {
+        // given
+        EntityRelationDiagram erd = new EntityRelationDiagramImporterJSON().createERDFromJSONFile(new File("./src/test/resources/booking_1_model.json"));
+        SolverConfiguration config = new SolverConfigurationFactory().createDefaultConfiguration();
+        List<String> offeredEdges = new ArrayList<>();
+        Set<String> scoredEdges = new HashSet<>();
+        List<String> createdEdges = new ArrayList<>();
+        config.setScoreTraceListener(new ScoreTraceListener() {
+            @Override
+            public boolean isTraced(Nanoentity first, Nanoentity second) {
+                offeredEdges.add(first.getContextName() + "-" + second.getContextName());
+                return offeredEdges.size() % 2 == 1;
+            }
+
+            @Override
+            public void criterionScored(Nanoentity first, Nanoentity second, String criterion, double score, double priority) {
+                scoredEdges.add(first.getContextName() + "-" + second.getContextName());
+            }
+
+            @Override
+            public void edgeCreated(Nanoentity first, Nanoentity second, double weight) {
+                createdEdges.add(first.getContextName() + "-" + second.getContextName());
+            }
+        });
+        ServiceCutterContext context = new ServiceCutterContextBuilder(erd).withCustomSolverConfiguration(config).build();
+
+        // when
+        new ServiceCutter(context).generateDecomposition();
+
+        // then
+        assertTrue(offeredEdges.size() > 1);
+        assertEquals((offeredEdges.size() + 1) / 2, createdEdges.size());
+        assertEquals(new HashSet<>(createdEdges), scoredEdges);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.solver.ChineseWhispers.NodeWeighting;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChineseWhispersTest {
+
+    @ParameterizedTest
+    @EnumSource(value = NodeWeighting.class, names = { "TOP", "LINEAR", "LOG" }) // label weighting ignores the weak edge
+    public void canClusterConnectedCliques(NodeWeighting weighting) {
+        // given: two cliques of four nodes connected by a weak edge and an isolated node
+        int[] firstNodes = { 0, 0, 0, 1, 1, 2, 4, 4, 4, 5, 5, 6, 3 };
+        int[] secondNodes = { 1, 2, 3, 2, 3, 3, 5, 6, 7, 6, 7, 7, 4 };
+        double[] weights = { 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 0.5 };
+        ChineseWhispers clustering = new ChineseWhispers(9, firstNodes, secondNodes, weights, weights.length, weighting);
+        clustering.setSeed(42);
+
+        // when
+        List<int[]> clusters = clustering.cluster();
+
+        // then
+        assertEquals(3, clusters.size());
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, clusters.get(0));
+        assertArrayEquals(new int[] { 4, 5, 6, 7 }, clusters.get(1));
+        assertArrayEquals(new int[] { 8 }, clusters.get(2));
+    }
+
+    @Test
+    public void parallelClusteringOnlyDependsOnSeed() {
+        // given
+        int size = 500;
+        int[] firstNodes = new int[size * 3];
+        int[] secondNodes = new int[size * 3];
+        double[] weights = new double[size * 3];
+        for (int i = 0; i < firstNodes.length; i++) {
+            firstNodes[i] = i % size;
+            secondNodes[i] = (i % size + 1 + i / size * 3) % size;
+            weights[i] = 1 + i % 7;
+        }
+
+        // when
+        List<int[]> sequential = cluster(firstNodes, secondNodes, weights, size, null);
+        List<int[]> singleThreaded = cluster(firstNodes, secondNodes, weights, size, new ForkJoinPool(1));
+        List<int[]> multiThreaded = cluster(firstNodes, secondNodes, weights, size, new ForkJoinPool(4));
+
+        // then
+        assertEquals(size, sequential.stream().mapToInt(cluster -> cluster.length).sum());
+        assertEquals(sequential.size(), cluster(firstNodes, secondNodes, weights, size, null).size());
+        assertEquals(singleThreaded.size(), multiThreaded.size());
+        for (int i = 0; i < singleThreaded.size(); i++) {
+            assertArrayEquals(singleThreaded.get(i), multiThreaded.get(i));
+        }
+    }
+
+    @Test
+    public void labelWeightingCountsNeighbors() {
+        // given
+        int size = 500;
+        int[] firstNodes = new int[size * 3];
+        int[] secondNodes = new int[size * 3];
+        double[] weights = new double[size * 3];
+        double[] unitWeights = new double[size * 3];
+        for (int i = 0; i < firstNodes.length; i++) {
+            firstNodes[i] = i % size;
+            secondNodes[i] = (i % size + 1 + i / size * 3) % size;
+            weights[i] = 1 + i % 7;
+            unitWeights[i] = 1;
+        }
+        ChineseWhispers labelClustering = new ChineseWhispers(size, firstNodes, secondNodes, weights, weights.length, NodeWeighting.LABEL);
+        ChineseWhispers countClustering = new ChineseWhispers(size, firstNodes, secondNodes, unitWeights, unitWeights.length, NodeWeighting.TOP);
+        labelClustering.setSeed(1);
+        countClustering.setSeed(1);
+
+        // when
+        List<int[]> labelClusters = labelClustering.cluster();
+        List<int[]> countClusters = countClustering.cluster();
+
+        // then: every neighbor counts 1, regardless of the edge weight and of the labels
+        assertEquals(countClusters.size(), labelClusters.size());
+        for (int i = 0; i < countClusters.size(); i++) {
+            assertArrayEquals(countClusters.get(i), labelClusters.get(i));
+        }
+    }
+
+    private List<int[]> cluster(int[] firstNodes, int[] secondNodes, double[] weights, int size, ForkJoinPool pool) {
+        ChineseWhispers clustering = new ChineseWhispers(size, firstNodes, secondNodes, weights, weights.length, NodeWeighting.TOP);
+        clustering.setSeed(7);
+        clustering.setForkJoinPool(pool);
+        return clustering.cluster();
+    }
+
+}
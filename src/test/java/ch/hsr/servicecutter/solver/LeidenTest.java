@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeidenTest {
+
+    @Test
+    public void canClusterConnectedCliques() {
+        // given: two cliques of four nodes connected by a weak edge and an isolated node
+        int[] firstNodes = { 0, 0, 0, 1, 1, 2, 4, 4, 4, 5, 5, 6, 3 };
+        int[] secondNodes = { 1, 2, 3, 2, 3, 3, 5, 6, 7, 6, 7, 7, 4 };
+        double[] weights = { 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 0.5 };
+        Leiden clustering = new Leiden(9, firstNodes, secondNodes, weights, weights.length, 1d);
+        clustering.setSeed(42);
+
+        // when
+        List<int[]> clusters = clustering.cluster();
+
+        // then
+        assertEquals(3, clusters.size());
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, clusters.get(0));
+        assertArrayEquals(new int[] { 4, 5, 6, 7 }, clusters.get(1));
+        assertArrayEquals(new int[] { 8 }, clusters.get(2));
+    }
+
+    @Test
+    public void higherResolutionLeadsToMoreCommunities() {
+        // given
+        int[] firstNodes = { 0, 0, 0, 1, 1, 2, 4, 4, 4, 5, 5, 6, 3 };
+        int[] secondNodes = { 1, 2, 3, 2, 3, 3, 5, 6, 7, 6, 7, 7, 4 };
+        double[] weights = { 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 0.5 };
+
+        // when
+        Leiden low = new Leiden(8, firstNodes, secondNodes, weights, weights.length, 0.01);
+        low.setSeed(42);
+        Leiden high = new Leiden(8, firstNodes, secondNodes, weights, weights.length, 10d);
+        high.setSeed(42);
+
+        // then
+        assertEquals(1, low.cluster().size());
+        assertEquals(8, high.cluster().size());
+    }
+
+    @Test
+    public void parallelClusteringOnlyDependsOnSeed() {
+        // given: ten groups of 50 nodes, most edges within the groups
+        int size = 500;
+        int[] firstNodes = new int[size * 4];
+        int[] secondNodes = new int[size * 4];
+        double[] weights = new double[size * 4];
+        for (int i = 0; i < firstNodes.length; i++) {
+            firstNodes[i] = i % size;
+            secondNodes[i] = i % 13 == 0 ? (i * 7 + 1) % size : i % size / 50 * 50 + (i * 31 + 7) % 50;
+            weights[i] = 1 + i % 5;
+            if (firstNodes[i] == secondNodes[i]) {
+                secondNodes[i] = (secondNodes[i] + 1) % size;
+            }
+        }
+
+        // when
+        List<int[]> singleThreaded = cluster(firstNodes, secondNodes, weights, size, new ForkJoinPool(1));
+        List<int[]> multiThreaded = cluster(firstNodes, secondNodes, weights, size, new ForkJoinPool(4));
+        List<int[]> sequential = cluster(firstNodes, secondNodes, weights, size, null);
+
+        // then
+        assertEquals(size, sequential.stream().mapToInt(cluster -> cluster.length).sum());
+        assertEquals(singleThreaded.size(), multiThreaded.size());
+        for (int i = 0; i < singleThreaded.size(); i++) {
+            assertArrayEquals(singleThreaded.get(i), multiThreaded.get(i));
+        }
+    }
+
+    private List<int[]> cluster(int[] firstNodes, int[] secondNodes, double[] weights, int size, ForkJoinPool pool) {
+        Leiden clustering = new Leiden(size, firstNodes, secondNodes, weights, weights.length, 1d);
+        clustering.setSeed(7);
+        clustering.setForkJoinPool(pool);
+        return clustering.cluster();
+    }
+
+}
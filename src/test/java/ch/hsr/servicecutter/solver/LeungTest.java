@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LeungTest {
+
+    @Test
+    public void canClusterConnectedCliques() {
+        // given: two cliques of four nodes connected by a weak edge and an isolated node
+        int[] firstNodes = { 0, 0, 0, 1, 1, 2, 4, 4, 4, 5, 5, 6, 3 };
+        int[] secondNodes = { 1, 2, 3, 2, 3, 3, 5, 6, 7, 6, 7, 7, 4 };
+        double[] weights = { 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 5, 0.5 };
+        Leung clustering = new Leung(9, firstNodes, secondNodes, weights, weights.length, 0.1, 0.05);
+        clustering.setSeed(42);
+        clustering.setMaxIterations(10);
+
+        // when
+        List<int[]> clusters = clustering.cluster();
+
+        // then
+        assertEquals(3, clusters.size());
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, clusters.get(0));
+        assertArrayEquals(new int[] { 4, 5, 6, 7 }, clusters.get(1));
+        assertArrayEquals(new int[] { 8 }, clusters.get(2));
+        assertTrue(clustering.getIterations() < 10);
+    }
+
+    @Test
+    public void stopsAfterMaxIterations() {
+        // given: a ring; a single sweep is done by default
+        int size = 200;
+        int[] firstNodes = new int[size];
+        int[] secondNodes = new int[size];
+        double[] weights = new double[size];
+        for (int i = 0; i < size; i++) {
+            firstNodes[i] = i;
+            secondNodes[i] = (i + 1) % size;
+            weights[i] = 1 + i % 3;
+        }
+        Leung clustering = new Leung(size, firstNodes, secondNodes, weights, size, 0.1, 0.05);
+        clustering.setSeed(7);
+
+        // when
+        List<int[]> clusters = clustering.cluster();
+
+        // then
+        assertEquals(1, clustering.getIterations());
+        assertEquals(size, clusters.stream().mapToInt(cluster -> cluster.length).sum());
+        assertThrows(IllegalArgumentException.class, () -> clustering.setMaxIterations(0));
+    }
+
+}
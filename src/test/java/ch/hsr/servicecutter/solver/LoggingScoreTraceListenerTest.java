@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.model.usersystem.Nanoentity;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoggingScoreTraceListenerTest {
+
+    @Test
+    public void logsOneOutOfSampleIntervalEdges() {
+        // given
+        List<Object> loggedWeights = new ArrayList<>();
+        LoggingScoreTraceListener listener = new LoggingScoreTraceListener(3, recordingLogger(true, loggedWeights));
+
+        // when
+        traceEdges(listener, 7);
+
+        // then
+        assertEquals(Arrays.asList(0d, 3d, 6d), loggedWeights);
+    }
+
+    @Test
+    public void logsEveryEdgeWithSampleIntervalOne() {
+        // given
+        List<Object> loggedWeights = new ArrayList<>();
+        LoggingScoreTraceListener listener = new LoggingScoreTraceListener(1, recordingLogger(true, loggedWeights));
+
+        // when
+        traceEdges(listener, 3);
+
+        // then
+        assertEquals(Arrays.asList(0d, 1d, 2d), loggedWeights);
+    }
+
+    @Test
+    public void tracesNoEdgeIfDebugIsDisabled() {
+        // given
+        List<Object> loggedWeights = new ArrayList<>();
+        LoggingScoreTraceListener listener = new LoggingScoreTraceListener(1, recordingLogger(false, loggedWeights));
+
+        // when
+        boolean traced = listener.isTraced(new Nanoentity("first"), new Nanoentity("second"));
+
+        // then
+        assertFalse(traced);
+        assertTrue(loggedWeights.isEmpty());
+    }
+
+    @Test
+    public void rejectsSampleIntervalBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new LoggingScoreTraceListener(0));
+    }
+
+    /**
+     * Traces the edges like the solver does; the weight of an edge is its index.
+     */
+    private void traceEdges(LoggingScoreTraceListener listener, int edgeCount) {
+        Nanoentity first = new Nanoentity("first");
+        Nanoentity second = new Nanoentity("second");
+        for (int i = 0; i < edgeCount; i++) {
+            if (listener.isTraced(first, second)) {
+                listener.criterionScored(first, second, "criterion", i, 1d);
+                listener.edgeCreated(first, second, i);
+            }
+        }
+    }
+
+    /**
+     * Records the first argument (the weight) of every debug message about a created edge.
+     */
+    private Logger recordingLogger(boolean debugEnabled, List<Object> loggedWeights) {
+        return (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(), new Class<?>[] { Logger.class }, (proxy, method, args) -> {
+            if (method.getName().equals("debug") && args[0].toString().startsWith("create edge")) {
+                Object[] arguments = args.length == 2 ? (Object[]) args[1] : Arrays.copyOfRange(args, 1, args.length);
+                loggedWeights.add(arguments[0]);
+            }
+            return method.getReturnType() == boolean.class ? debugEnabled : null;
+        });
+    }
+
+}
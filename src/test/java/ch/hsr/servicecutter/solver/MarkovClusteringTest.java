@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarkovClusteringTest {
+
+    @Test
+    public void canClusterConnectedCliques() {
+        // given: two triangles connected by a weak edge and an isolated node
+        int[] firstNodes = { 0, 0, 1, 3, 3, 4, 2 };
+        int[] secondNodes = { 1, 2, 2, 4, 5, 5, 3 };
+        double[] weights = { 5, 5, 5, 5, 5, 5, 0.5 };
+        MarkovClustering clustering = new MarkovClustering(7, firstNodes, secondNodes, weights, weights.length, 2, 2, 1e-5);
+
+        // when
+        List<int[]> clusters = clustering.cluster();
+
+        // then
+        assertEquals(3, clusters.size());
+        assertArrayEquals(new int[] { 0, 1, 2 }, clusters.get(0));
+        assertArrayEquals(new int[] { 3, 4, 5 }, clusters.get(1));
+        assertArrayEquals(new int[] { 6 }, clusters.get(2));
+        assertTrue(clustering.getIterations() < MarkovClustering.MAX_ITERATIONS);
+    }
+
+    @Test
+    public void expansionIsIndependentOfParallelism() {
+        // given
+        int size = 200;
+        int[] firstNodes = new int[size * 3];
+        int[] secondNodes = new int[size * 3];
+        double[] weights = new double[size * 3];
+        for (int i = 0; i < firstNodes.length; i++) {
+            firstNodes[i] = i % size;
+            secondNodes[i] = (i % size + 1 + i / size * 7) % size;
+            weights[i] = 1 + i % 5;
+        }
+        SparseMatrix matrix = SparseMatrix.ofUndirectedGraphWithLoops(size, firstNodes, secondNodes, weights, weights.length);
+
+        // when
+        SparseMatrix sequential = matrix.multiply(matrix, new ForkJoinPool(1));
+        SparseMatrix parallel = matrix.multiply(matrix, new ForkJoinPool(4));
+
+        // then
+        assertTrue(sequential.equalsWithin(parallel, 0d));
+        double expected = 0d;
+        for (int k = 0; k < size; k++) {
+            expected += matrix.get(0, k) * matrix.get(k, 1);
+        }
+        assertEquals(expected, sequential.get(0, 1), 1e-9);
+    }
+
+}
@@ -6,7 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.security.InvalidParameterException;
 import java.util.HashMap;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 
 public class SolverConfigurationTest {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.*;
+import ch.hsr.servicecutter.api.model.EntityRelationDiagram;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.api.model.UserRepresentationContainer;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SolverRegistryTest {
+
+    @Test
+    public void autoSelectsCheapestSuitableSolver() {
+        // given
+        SolverRegistry registry = new SolverRegistry();
+
+        // when
+        SolverProvider small = registry.selectProvider(SolverAlgorithm.AUTO, 20, 50);
+        SolverProvider large = registry.selectProvider(SolverAlgorithm.AUTO, 100000, 500000);
+        SolverProvider explicit = registry.selectProvider(SolverAlgorithm.LEUNG, 20, 50);
+
+        // then
+        assertEquals("LEIDEN", small.getName());
+        assertEquals("LEIDEN", large.getName());
+        assertEquals("LEUNG", explicit.getName());
+        assertTrue(registry.getProvider("MARKOV_CLUSTERING").estimateCost(1000, 5000) > registry.getProvider("LEIDEN").estimateCost(1000, 5000));
+        assertEquals(1d, registry.getProvider("LEIDEN").getParameters().get("leidenResolution"));
+    }
+
+    @Test
+    public void canReplaceBuiltInSolver() {
+        // given
+        SolverRegistry registry = new SolverRegistry();
+
+        // when
+        registry.register(new TestSolverProvider("MARKOV_CLUSTERING", 0d, true));
+
+        // then
+        assertEquals(4, registry.getProviders().size());
+        assertTrue(registry.selectProvider(SolverAlgorithm.MARKOV_CLUSTERING, 20, 50) instanceof TestSolverProvider);
+        assertTrue(registry.selectProvider(SolverAlgorithm.AUTO, 20, 50) instanceof TestSolverProvider);
+    }
+
+    @Test
+    public void loadsProvidersWithServiceLoader() {
+        // when
+        SolverRegistry registry = SolverRegistry.getDefault();
+
+        // then
+        assertNotNull(registry.getProvider("TEST"));
+        assertEquals(1d, registry.getProvider("TEST").getParameters().get("testParam"));
+        assertEquals("LEIDEN", registry.selectProvider(SolverAlgorithm.AUTO, 20, 50).getName());
+    }
+
+    @Test
+    public void canClusterModelWithAutomaticallySelectedSolver() throws IOException {
+        // given
+        File erdFile = new File("./src/test/resources/booking_1_model.json");
+        File urFile = new File("./src/test/resources/booking_2_user_representations.json");
+        EntityRelationDiagram erd = new EntityRelationDiagramImporterJSON().createERDFromJSONFile(erdFile);
+        UserRepresentationContainer userRepresentations = new UserRepresentationContainerImporterJSON()
+                .createUserRepresentationContainerFromJSONFile(urFile);
+
+        // when
+        SolverConfiguration config = new SolverConfigurationFactory().createDefaultConfiguration();
+        config.setAlgorithm(SolverAlgorithm.forValue("auto"));
+        ServiceCutterContext context = new ServiceCutterContextBuilder(erd)
+                .withUserRepresentations(userRepresentations)
+                .withCustomSolverConfiguration(config)
+                .build();
+        SolverResult result = new ServiceCutter(context).generateDecomposition();
+
+        // then
+        assertEquals(3, result.getServices().size());
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ch.hsr.servicecutter.solver;
+
+import ch.hsr.servicecutter.api.ServiceCutterContext;
+import ch.hsr.servicecutter.api.model.SolverResult;
+import ch.hsr.servicecutter.scorer.WeightedGraph;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Provider registered through {@code META-INF/services} of the tests; never selected automatically by default.
+ */
+public class TestSolverProvider implements SolverProvider {
+
+    private final String name;
+    private final double cost;
+    private final boolean suitable;
+
+    public TestSolverProvider() {
+        this("TEST", 0d, false);
+    }
+
+    public TestSolverProvider(String name, double cost, boolean suitable) {
+        this.name = name;
+        this.cost = cost;
+        this.suitable = suitable;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Map<String, Double> getParameters() {
+        return Collections.singletonMap("testParam", 1d);
+    }
+
+    @Override
+    public double estimateCost(int nodeCount, int edgeCount) {
+        return cost;
+    }
+
+    @Override
+    public boolean isSuitable(int nodeCount, int edgeCount) {
+        return suitable;
+    }
+
+    @Override
+    public Solver createSolver(ServiceCutterContext context, WeightedGraph weightedGraph, SolverConfiguration config) {
+        return SolverResult::new;
+    }
+
+}